@@ -0,0 +1,112 @@
+package sanghun.project.howtouseai.benchmark;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sanghun.project.howtouseai.HowtouseaiApplication;
+import sanghun.project.howtouseai.domain.Card;
+import sanghun.project.howtouseai.domain.Category;
+import sanghun.project.howtouseai.repository.CardRepository;
+import sanghun.project.howtouseai.repository.CategoryRepository;
+import sanghun.project.howtouseai.service.IndexRebuilder;
+import sanghun.project.howtouseai.service.LikesCountMigration;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * JMH 벤치마크용 애플리케이션 컨텍스트(H2, MySQL 호환 모드)와 시드 데이터
+ */
+final class BenchmarkFixtures {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private BenchmarkFixtures() {
+    }
+
+    static ConfigurableApplicationContext start(String name, String... properties) {
+        List<String> defaults = List.of(
+                "spring.datasource.url=jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.main.banner-mode=off",
+                "icons.storage-dir=build/jmh-icons",
+                // 요청마다 남기는 INFO 로그는 측정 대상이 아님
+                "logging.level.root=WARN");
+        return new SpringApplicationBuilder(HowtouseaiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(Stream.concat(defaults.stream(), Stream.of(properties)).toArray(String[]::new))
+                .run();
+    }
+
+    /**
+     * 카드와 좋아요를 채웁니다. i 번째 카드의 좋아요 수는 maxLikes / (i + 1) 로, 인기 카드에 몰리는 분포를 흉내 냅니다.
+     *
+     * @return 카드 ID 목록과 사용자 UUID 목록 (사용자 수 = maxLikes)
+     */
+    static Fixture seed(ConfigurableApplicationContext context, int cards, int maxLikes) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<String> userUuids = new ArrayList<>(maxLikes);
+        List<Object[]> identities = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < Math.max(maxLikes, 1); i++) {
+            String uuid = UUID.randomUUID().toString();
+            userUuids.add(uuid);
+            identities.add(new Object[]{uuid, now});
+            if (identities.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate("INSERT INTO user_identity (uuid, created_at) VALUES (?, ?)", identities);
+                identities.clear();
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO user_identity (uuid, created_at) VALUES (?, ?)", identities);
+        Long firstUserId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM user_identity", Long.class);
+
+        Category category = context.getBean(CategoryRepository.class).save(Category.builder()
+                .name("benchmark")
+                .iconUrl("/icons/benchmark.png")
+                .build());
+        List<Card> entities = new ArrayList<>(cards);
+        for (int i = 0; i < cards; i++) {
+            entities.add(Card.builder()
+                    .ownerId(firstUserId + (i % Math.max(maxLikes, 1)))
+                    .title("ChatGPT 활용 팁 " + i)
+                    .category(category)
+                    .tags("chatgpt, prompt, 업무자동화")
+                    .situation("회의록을 빠르게 정리해야 할 때 " + i)
+                    .usageExamples("회의 녹취를 붙여 넣고 요약과 할 일 목록을 요청합니다. ".repeat(5))
+                    .content("프롬프트 예시와 주의할 점을 정리한 본문입니다. ".repeat(40))
+                    .build());
+        }
+        List<Long> cardIds = context.getBean(CardRepository.class).saveAll(entities).stream()
+                .map(Card::getId)
+                .toList();
+
+        List<Object[]> likes = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < cardIds.size(); i++) {
+            int likeCount = maxLikes / (i + 1);
+            for (int u = 0; u < likeCount; u++) {
+                likes.add(new Object[]{cardIds.get(i), firstUserId + u, now});
+                if (likes.size() == BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(
+                            "INSERT INTO card_like (card_id, user_id, created_at) VALUES (?, ?, ?)", likes);
+                    likes.clear();
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO card_like (card_id, user_id, created_at) VALUES (?, ?, ?)", likes);
+
+        context.getBean(LikesCountMigration.class).reconcile();
+        // 시드 데이터는 JDBC 로 직접 넣었으므로 메모리 인덱스를 다시 구성
+        context.getBean(IndexRebuilder.class).rebuildAll();
+        return new Fixture(cardIds, userUuids);
+    }
+
+    record Fixture(List<Long> cardIds, List<String> userUuids) {
+    }
+}
@@ -0,0 +1,69 @@
+package sanghun.project.howtouseai.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import sanghun.project.howtouseai.dto.CardResponse;
+import sanghun.project.howtouseai.service.CardDetailCache;
+import sanghun.project.howtouseai.service.CardService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카드 상세 변환 (convertToResponse + 사용자별 좋아요 여부)
+ * uncached 는 매번 캐시를 비워 DB 조회와 변환 전체를, cached 는 캐시 값에 사용자별 정보를 덧씌우는 비용만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CardDetailBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int likes;
+
+    private ConfigurableApplicationContext context;
+    private CardService cardService;
+    private CardDetailCache cardDetailCache;
+    private Long hotCardId;
+    private String userUuid;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkFixtures.start("card-detail-" + likes);
+        BenchmarkFixtures.Fixture fixture = BenchmarkFixtures.seed(context, 20, likes);
+        cardService = context.getBean(CardService.class);
+        cardDetailCache = context.getBean(CardDetailCache.class);
+        hotCardId = fixture.cardIds().get(0);
+        userUuid = fixture.userUuids().get(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CardResponse uncached() {
+        cardDetailCache.invalidate(hotCardId);
+        return cardService.getCardById(hotCardId, userUuid);
+    }
+
+    @Benchmark
+    public CardResponse cached() {
+        return cardService.getCardById(hotCardId, userUuid);
+    }
+}
@@ -0,0 +1,67 @@
+package sanghun.project.howtouseai.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import sanghun.project.howtouseai.dto.CardSummaryResponse;
+import sanghun.project.howtouseai.service.CardService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 홈 피드 구성 (순위 인덱스 → 카드 조회 → 좋아요 여부 → DTO 변환)
+ * likes 는 가장 인기 있는 카드의 좋아요 수이며, 조회 사용자는 모든 인기 카드에 좋아요한 사용자입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HomeFeedBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int likes;
+
+    private ConfigurableApplicationContext context;
+    private CardService cardService;
+    private String userUuid;
+    private final Pageable firstPage = PageRequest.of(0, 20);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkFixtures.start("home-feed-" + likes);
+        BenchmarkFixtures.Fixture fixture = BenchmarkFixtures.seed(context, 100, likes);
+        cardService = context.getBean(CardService.class);
+        userUuid = fixture.userUuids().get(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<CardSummaryResponse> homeFeed() {
+        return cardService.getCardsForHomePage(firstPage, userUuid);
+    }
+
+    @Benchmark
+    public List<CardSummaryResponse> homeFeedAnonymous() {
+        return cardService.getCardsForHomePage(firstPage, null);
+    }
+}
@@ -0,0 +1,116 @@
+package sanghun.project.howtouseai.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import sanghun.project.howtouseai.domain.Card;
+import sanghun.project.howtouseai.dto.ApiResponse;
+import sanghun.project.howtouseai.dto.CardResponse;
+import sanghun.project.howtouseai.dto.CardSummaryResponse;
+import sanghun.project.howtouseai.dto.CategoryResponse;
+import sanghun.project.howtouseai.dto.ResponseHelper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API 응답 JSON 직렬화 (카드 목록 페이지, 카드 상세)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonSerializationBenchmark {
+
+    // Spring Boot 기본 설정과 같게 날짜는 ISO 문자열로 직렬화
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @State(Scope.Benchmark)
+    public static class PageState {
+
+        ApiResponse<Page<CardSummaryResponse>> response;
+
+        @Setup
+        public void setUp() {
+            List<CardSummaryResponse> cards = new ArrayList<>(20);
+            for (int i = 0; i < 20; i++) {
+                cards.add(summary(i));
+            }
+            response = ResponseHelper.success(new PageImpl<>(cards, PageRequest.of(0, 20), 1_000),
+                    "카드 목록을 성공적으로 조회했습니다.");
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class DetailState {
+
+        ApiResponse<CardResponse> response;
+
+        @Setup
+        public void setUp() {
+            response = ResponseHelper.success(card(0), "카드 상세 정보를 성공적으로 조회했습니다.");
+        }
+    }
+
+    @Benchmark
+    public byte[] cardPage(PageState state) throws JsonProcessingException {
+        return OBJECT_MAPPER.writeValueAsBytes(state.response);
+    }
+
+    @Benchmark
+    public byte[] cardDetail(DetailState state) throws JsonProcessingException {
+        return OBJECT_MAPPER.writeValueAsBytes(state.response);
+    }
+
+    // 목록 응답은 본문 대신 요약만 담음
+    private static CardSummaryResponse summary(long id) {
+        return CardSummaryResponse.builder()
+                .id(id)
+                .uuid(UUID.randomUUID().toString())
+                .title("ChatGPT 활용 팁 " + id)
+                .category(CategoryResponse.builder().id(1L).name("ChatGPT").iconUrl("/icons/chatgpt.png").build())
+                .tagList(List.of("chatgpt", "prompt", "업무자동화"))
+                .tagCount(3)
+                .excerpt(Card.excerptOf("프롬프트 예시와 주의할 점을 정리한 본문입니다. ".repeat(40)))
+                .createdAt(LocalDateTime.now())
+                .likesCount(42L)
+                .version(0L)
+                .build();
+    }
+
+    private static CardResponse card(long id) {
+        return CardResponse.builder()
+                .id(id)
+                .uuid(UUID.randomUUID().toString())
+                .title("ChatGPT 활용 팁 " + id)
+                .category(CategoryResponse.builder().id(1L).name("ChatGPT").iconUrl("/icons/chatgpt.png").build())
+                .tags("chatgpt, prompt, 업무자동화")
+                .tagList(List.of("chatgpt", "prompt", "업무자동화"))
+                .situation("회의록을 빠르게 정리해야 할 때")
+                .usageExamples("회의 녹취를 붙여 넣고 요약과 할 일 목록을 요청합니다. ".repeat(5))
+                .content("프롬프트 예시와 주의할 점을 정리한 본문입니다. ".repeat(40))
+                .createdAt(LocalDateTime.now())
+                .likesCount(42L)
+                .build();
+    }
+}
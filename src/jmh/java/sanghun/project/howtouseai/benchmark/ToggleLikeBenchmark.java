@@ -0,0 +1,70 @@
+package sanghun.project.howtouseai.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import sanghun.project.howtouseai.dto.LikeResponse;
+import sanghun.project.howtouseai.service.CardLikeService;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 8 개 스레드가 같은 인기 카드에 동시에 좋아요를 토글할 때의 처리량
+ * direct 는 요청마다 DB 에 반영(카드 행 락 경합), buffered 는 write-behind 버퍼(likes.write-behind.enabled)를 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ToggleLikeBenchmark {
+
+    @Param({"direct", "buffered"})
+    private String mode;
+
+    @Param({"10", "1000", "100000"})
+    private int likes;
+
+    private ConfigurableApplicationContext context;
+    private CardLikeService cardLikeService;
+    private Long hotCardId;
+
+    @State(Scope.Thread)
+    public static class User {
+        final String uuid = UUID.randomUUID().toString();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkFixtures.start("toggle-like-" + mode + "-" + likes,
+                "likes.write-behind.enabled=" + mode.equals("buffered"));
+        BenchmarkFixtures.Fixture fixture = BenchmarkFixtures.seed(context, 20, likes);
+        cardLikeService = context.getBean(CardLikeService.class);
+        hotCardId = fixture.cardIds().get(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public LikeResponse toggleHotCard(User user) {
+        return cardLikeService.toggleLike(hotCardId, user.uuid);
+    }
+}
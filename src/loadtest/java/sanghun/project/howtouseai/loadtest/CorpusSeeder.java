@@ -0,0 +1,103 @@
+package sanghun.project.howtouseai.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sanghun.project.howtouseai.domain.Card;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 합성 데이터(카테고리, 사용자, 카드, 좋아요)를 JDBC 배치로 채웁니다.
+ * 같은 설정과 시드값이면 항상 같은 데이터가 만들어지며, 좋아요는 카드 인기 순위에 대해 Zipf 분포를 따릅니다.
+ */
+@Slf4j
+final class CorpusSeeder {
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final long UUID_NAMESPACE = 0x10ad7e57L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestConfig config;
+
+    CorpusSeeder(JdbcTemplate jdbcTemplate, LoadTestConfig config) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = config;
+    }
+
+    /**
+     * 시드 사용자 UUID (index 는 0 부터, user_identity.id = index + 1)
+     */
+    static String userUuid(int index) {
+        return new UUID(UUID_NAMESPACE, index).toString();
+    }
+
+    void seed(ZipfDistribution popularity, int[] cardIdByRank) {
+        Random random = new Random(config.seed());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < config.categories(); i++) {
+            rows.add(new Object[]{"카테고리 " + i, "/icons/category-" + i + ".png", now});
+        }
+        flush("INSERT INTO category (name, icon_url, created_at) VALUES (?, ?, ?)", rows);
+
+        for (int i = 0; i < config.users(); i++) {
+            rows.add(new Object[]{userUuid(i), now});
+            flushIfFull("INSERT INTO user_identity (uuid, created_at) VALUES (?, ?)", rows);
+        }
+        flush("INSERT INTO user_identity (uuid, created_at) VALUES (?, ?)", rows);
+        log.info("사용자 시드 완료: users={}", config.users());
+
+        String cardSql = "INSERT INTO card (owner_id, title, category_id, tags, situation, usage_examples, " +
+                "content, excerpt, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        LocalDateTime start = LocalDateTime.now().minusDays(365);
+        for (int i = 0; i < config.cards(); i++) {
+            int ownerId = 1 + random.nextInt(config.users());
+            int categoryId = 1 + random.nextInt(config.categories());
+            String content = "본문 " + i + " " + "프롬프트와 주의할 점을 정리했습니다. ".repeat(1 + random.nextInt(20));
+            rows.add(new Object[]{
+                    ownerId,
+                    "AI 활용 팁 #" + i,
+                    categoryId,
+                    "chatgpt, prompt, tip" + (i % 100),
+                    "상황 설명 " + i,
+                    "사용 예시 " + i + " - 회의록 요약, 메일 초안 작성, 코드 리뷰 요청",
+                    content,
+                    Card.excerptOf(content),
+                    Timestamp.valueOf(start.plusSeconds((long) i * 365 * 24 * 3600 / config.cards()))});
+            flushIfFull(cardSql, rows);
+        }
+        flush(cardSql, rows);
+        log.info("카드 시드 완료: cards={}", config.cards());
+
+        // 같은 (카드, 사용자) 가 다시 뽑히면 유니크 제약으로 무시되므로 실제 좋아요 수는 목표보다 약간 적을 수 있음
+        String likeSql = "INSERT IGNORE INTO card_like (card_id, user_id, created_at) VALUES (?, ?, ?)";
+        for (long i = 0; i < config.likes(); i++) {
+            rows.add(new Object[]{cardIdByRank[popularity.sample(random)], 1 + random.nextInt(config.users()), now});
+            flushIfFull(likeSql, rows);
+            if ((i + 1) % 1_000_000 == 0) {
+                log.info("좋아요 시드 진행: {}/{}", i + 1, config.likes());
+            }
+        }
+        flush(likeSql, rows);
+        log.info("좋아요 시드 완료: likes={}", config.likes());
+    }
+
+    private void flushIfFull(String sql, List<Object[]> rows) {
+        if (rows.size() >= BATCH_SIZE) {
+            flush(sql, rows);
+        }
+    }
+
+    private void flush(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package sanghun.project.howtouseai.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 엔드포인트 하나의 응답 시간(나노초)과 오류 수를 모읍니다. 보고 시 정렬해 백분위를 계산합니다.
+ */
+final class LatencyRecorder {
+
+    private final String name;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long[] samples = new long[1 << 16];
+    private int size;
+    private long errors;
+
+    LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    void record(long nanos, boolean success) {
+        lock.lock();
+        try {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+            if (!success) {
+                errors++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void reset() {
+        lock.lock();
+        try {
+            size = 0;
+            errors = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    String report(double seconds) {
+        lock.lock();
+        try {
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            return String.format("%-8s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f",
+                    name, size, errors, size / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    percentile(sorted, 0.999), size == 0 ? 0 : sorted[size - 1] / 1e6);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    static String header() {
+        return String.format("%-8s %10s %8s %10s %9s %9s %9s %9s %9s",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,200 @@
+package sanghun.project.howtouseai.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sanghun.project.howtouseai.HowtouseaiApplication;
+import sanghun.project.howtouseai.loadtest.LoadTestConfig.Endpoint;
+import sanghun.project.howtouseai.service.IndexRebuilder;
+import sanghun.project.howtouseai.service.LikesCountMigration;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 종단 간 부하 테스트 (./gradlew loadTest -Dloadtest.cards=... )
+ * <p>
+ * 애플리케이션을 내장 H2(MySQL 호환 모드)로 띄우고 합성 데이터를 채운 뒤, 실제 HTTP 요청으로
+ * 홈 피드(/), 카드 상세(/card/{id}), 좋아요 토글, 카드 생성을 설정한 비율로 재생합니다.
+ * 상세 조회와 좋아요 대상 카드는 시드 데이터와 같은 Zipf 인기 분포에서 뽑습니다.
+ * 워밍업 이후 측정 구간의 엔드포인트별 처리량과 응답 시간 백분위를 출력합니다.
+ */
+@Slf4j
+public final class LoadTest {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestConfig config;
+    private final String baseUrl;
+    private final ZipfDistribution popularity;
+    private final int[] cardIdByRank;
+    private final Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+    private final AtomicLong createdCards = new AtomicLong();
+
+    private LoadTest(LoadTestConfig config, String baseUrl, ZipfDistribution popularity, int[] cardIdByRank) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.popularity = popularity;
+        this.cardIdByRank = cardIdByRank;
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new LatencyRecorder(endpoint.name().toLowerCase()));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        log.info("부하 테스트 설정: {}", config);
+
+        try (ConfigurableApplicationContext context = start()) {
+            ZipfDistribution popularity = new ZipfDistribution(config.cards(), config.zipf());
+            int[] cardIdByRank = shuffledCardIds(config.cards(), new Random(config.seed()));
+
+            long seedStarted = System.nanoTime();
+            new CorpusSeeder(context.getBean(JdbcTemplate.class), config).seed(popularity, cardIdByRank);
+            context.getBean(LikesCountMigration.class).reconcile();
+            // 시드 데이터는 JDBC 로 직접 넣었으므로 메모리 인덱스를 다시 구성
+            context.getBean(IndexRebuilder.class).rebuildAll();
+            log.info("시드 및 인덱스 구성 완료: {}s", (System.nanoTime() - seedStarted) / 1_000_000_000);
+
+            String port = context.getEnvironment().getProperty("local.server.port");
+            new LoadTest(config, "http://localhost:" + port, popularity, cardIdByRank).run();
+        }
+    }
+
+    private static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(HowtouseaiApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+                                + "DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.main.banner-mode=off",
+                        "icons.storage-dir=build/loadtest-icons",
+                        // 요청마다 남기는 INFO 로그가 병목이 되지 않도록 경고 이상만 출력
+                        "logging.level.root=WARN",
+                        "logging.level.sanghun.project.howtouseai.loadtest=INFO")
+                .run();
+    }
+
+    // 카드 ID 는 빈 DB 에 순서대로 들어가므로 1..n. 인기 순위와 생성 순서가 겹치지 않게 섞는다.
+    private static int[] shuffledCardIds(int cards, Random random) {
+        int[] cardIds = new int[cards];
+        for (int i = 0; i < cards; i++) {
+            cardIds[i] = i + 1;
+        }
+        for (int i = cards - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = cardIds[i];
+            cardIds[i] = cardIds[j];
+            cardIds[j] = swap;
+        }
+        return cardIds;
+    }
+
+    private void run() throws InterruptedException {
+        long measureFrom = System.nanoTime() + config.warmup().toNanos();
+        long deadline = measureFrom + config.duration().toNanos();
+        log.info("요청 재생 시작: concurrency={}, warmup={}, duration={}, mix={}",
+                config.concurrency(), config.warmup(), config.duration(), config.mix());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < config.concurrency(); worker++) {
+                int workerIndex = worker;
+                executor.submit(() -> runWorker(workerIndex, measureFrom, deadline));
+            }
+        }
+
+        double seconds = config.duration().toNanos() / 1e9;
+        List<String> lines = new ArrayList<>();
+        lines.add(LatencyRecorder.header());
+        recorders.values().forEach(recorder -> lines.add(recorder.report(seconds)));
+        log.info("부하 테스트 결과 (cards={}, likes={}, concurrency={}, {}s)\n{}",
+                config.cards(), config.likes(), config.concurrency(), (long) seconds, String.join("\n", lines));
+    }
+
+    private void runWorker(int workerIndex, long measureFrom, long deadline) {
+        Random random = new Random(config.seed() * 31 + workerIndex);
+        // 워커마다 쿠키(세션)를 따로 가져 홈 화면 방문자가 각자 세션 UUID 를 갖도록 함
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .cookieHandler(new CookieManager())
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        String userUuid = CorpusSeeder.userUuid(random.nextInt(config.users()));
+
+        long now;
+        while ((now = System.nanoTime()) < deadline) {
+            Endpoint endpoint = pick(random);
+            boolean success;
+            try {
+                HttpResponse<Void> response = client.send(request(endpoint, random, userUuid),
+                        HttpResponse.BodyHandlers.discarding());
+                success = response.statusCode() >= 200 && response.statusCode() < 300;
+            } catch (Exception e) {
+                success = false;
+            }
+            if (now >= measureFrom) {
+                recorders.get(endpoint).record(System.nanoTime() - now, success);
+            }
+        }
+    }
+
+    private Endpoint pick(Random random) {
+        int total = config.mix().values().stream().mapToInt(Integer::intValue).sum();
+        int value = random.nextInt(total);
+        for (Map.Entry<Endpoint, Integer> weight : config.mix().entrySet()) {
+            value -= weight.getValue();
+            if (value < 0) {
+                return weight.getKey();
+            }
+        }
+        throw new IllegalStateException("요청 비율 계산 오류");
+    }
+
+    private HttpRequest request(Endpoint endpoint, Random random, String userUuid) {
+        return switch (endpoint) {
+            case HOME -> get("/");
+            case DETAIL -> get("/card/" + popularCardId(random) + "?uuid=" + userUuid);
+            case LIKE -> post("/api/cards/" + popularCardId(random) + "/like",
+                    "{\"uuid\":\"" + CorpusSeeder.userUuid(random.nextInt(config.users())) + "\"}");
+            case CREATE -> post("/api/cards", """
+                    {"title":"부하 테스트 카드 %d","categoryId":%d,"tags":"loadtest, prompt",\
+                    "situation":"부하 테스트 상황","usageExamples":"부하 테스트 예시",\
+                    "content":"부하 테스트 본문","uuid":"%s"}"""
+                    .formatted(createdCards.incrementAndGet(), 1 + random.nextInt(config.categories()), userUuid));
+        };
+    }
+
+    private int popularCardId(Random random) {
+        return cardIdByRank[popularity.sample(random)];
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+}
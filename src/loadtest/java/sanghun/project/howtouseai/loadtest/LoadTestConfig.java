@@ -0,0 +1,66 @@
+package sanghun.project.howtouseai.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (-Dloadtest.* 시스템 프로퍼티)
+ * <p>
+ * 기본값은 개발 PC 에서 몇 분 안에 끝나는 규모입니다. 운영 규모를 재현하려면
+ * {@code -Dloadtest.cards=1000000 -Dloadtest.likes=10000000} 처럼 늘리고 힙도 함께 늘립니다.
+ *
+ * @param cards       시드 카드 수
+ * @param categories  시드 카테고리 수
+ * @param users       시드 사용자 수
+ * @param likes       시드 좋아요 수 (중복 조합은 무시되므로 실제 수는 약간 적음)
+ * @param zipf        카드 인기 분포의 Zipf 지수 (클수록 상위 카드에 집중)
+ * @param seed        데이터와 요청 순서를 결정하는 난수 시드
+ * @param concurrency 동시 클라이언트 수
+ * @param warmup      측정 전 워밍업 시간
+ * @param duration    측정 시간
+ * @param mix         엔드포인트별 요청 비율
+ */
+record LoadTestConfig(int cards, int categories, int users, long likes, double zipf, long seed,
+                      int concurrency, Duration warmup, Duration duration, Map<Endpoint, Integer> mix) {
+
+    enum Endpoint {
+        HOME, DETAIL, LIKE, CREATE
+    }
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.cards", 100_000),
+                Integer.getInteger("loadtest.categories", 20),
+                Integer.getInteger("loadtest.users", 50_000),
+                Long.getLong("loadtest.likes", 1_000_000L),
+                Double.parseDouble(System.getProperty("loadtest.zipf", "1.1")),
+                Long.getLong("loadtest.seed", 42L),
+                Integer.getInteger("loadtest.concurrency", 64),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup", 20L)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration", 60L)),
+                parseMix(System.getProperty("loadtest.mix", "home=50,detail=35,like=12,create=3")));
+    }
+
+    /**
+     * "home=50,detail=35,like=12,create=3" 형식의 요청 비율을 파싱합니다.
+     */
+    static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("요청 비율 형식이 올바르지 않습니다: " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("요청 비율은 0 이상이어야 합니다: " + entry);
+            }
+            weights.put(Endpoint.valueOf(pair[0].trim().toUpperCase()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("요청 비율의 합이 0 입니다: " + mix);
+        }
+        return weights;
+    }
+}
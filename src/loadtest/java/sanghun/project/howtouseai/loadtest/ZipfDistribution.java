@@ -0,0 +1,32 @@
+package sanghun.project.howtouseai.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 순위 1..n 에 대한 Zipf 분포 (P(k) ∝ 1 / k^s). 누적 분포를 미리 계산해 이진 탐색으로 표본을 뽑습니다.
+ */
+final class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    ZipfDistribution(int n, double exponent) {
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1.0 / Math.pow(k, exponent);
+            cumulative[k - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /**
+     * @return 0 부터 시작하는 순위 (0 이 가장 인기)
+     */
+    int sample(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,62 @@
+package sanghun.project.howtouseai.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import sanghun.project.howtouseai.dto.CacheStatsResponse;
+import sanghun.project.howtouseai.service.CardDetailCache;
+import sanghun.project.howtouseai.service.CardTileCache;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Prometheus(/actuator/prometheus)로 노출하는 애플리케이션 지표 설정
+ * <p>
+ * 서비스 메서드 타이머는 각 서비스의 @Timed, HikariCP 풀 지표는 Spring Boot 자동 설정이 등록하며,
+ * 여기서는 캐시 적중률과 요청당 JPA 쿼리 수 집계를 연결합니다.
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder cacheMetrics(CardDetailCache cardDetailCache, CardTileCache cardTileCache) {
+        return registry -> {
+            for (Supplier<CacheStatsResponse> cache : List.<Supplier<CacheStatsResponse>>of(
+                    cardDetailCache::stats, cardTileCache::stats)) {
+                String name = cache.get().getName();
+                counter(registry, "cache.gets", name, cache, CacheStatsResponse::getHits, "hit");
+                counter(registry, "cache.gets", name, cache, CacheStatsResponse::getMisses, "miss");
+                counter(registry, "cache.evictions", name, cache, CacheStatsResponse::getEvictions, null);
+                Gauge.builder("cache.size", cache, c -> c.get().getEntries())
+                        .tag("cache", name)
+                        .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspector() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+    }
+
+    private static void counter(MeterRegistry registry, String meterName, String cacheName,
+                                Supplier<CacheStatsResponse> cache, ToDoubleFunction<CacheStatsResponse> value,
+                                String result) {
+        FunctionCounter.Builder<Supplier<CacheStatsResponse>> builder =
+                FunctionCounter.builder(meterName, cache, c -> value.applyAsDouble(c.get()))
+                        .tag("cache", cacheName);
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        builder.register(registry);
+    }
+}
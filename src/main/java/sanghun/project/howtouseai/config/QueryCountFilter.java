@@ -0,0 +1,64 @@
+package sanghun.project.howtouseai.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청당 JPA 쿼리 수를 howtouseai.jpa.queries 분포로 기록합니다. (method, uri 패턴별)
+ * 정적 리소스와 actuator 요청은 제외합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final String[] EXCLUDED_PREFIXES =
+            {"/css/", "/js/", "/images/", "/icons/", "/static/", "/favicon.ico", "/actuator"};
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCountInspector.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int queries = QueryCountInspector.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            DistributionSummary.builder("howtouseai.jpa.queries")
+                    .description("JPA queries per request")
+                    .baseUnit("queries")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .publishPercentileHistogram()
+                    .maximumExpectedValue(1000.0)
+                    .register(meterRegistry)
+                    .record(queries);
+            log.debug("요청 쿼리 수: method={}, uri={}, queries={}", request.getMethod(), uri, queries);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String prefix : EXCLUDED_PREFIXES) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,32 @@
+package sanghun.project.howtouseai.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행하는 SQL 수를 현재 스레드(요청) 단위로 셉니다.
+ * {@link QueryCountFilter} 가 요청 시작/종료 시 begin/end 를 호출하며, 그 밖의 스레드에서는 세지 않습니다.
+ * JdbcTemplate 으로 직접 실행하는 SQL 은 포함되지 않습니다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    static void begin() {
+        COUNT.set(new int[1]);
+    }
+
+    static int end() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
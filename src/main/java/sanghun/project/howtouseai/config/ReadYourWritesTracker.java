@@ -0,0 +1,99 @@
+package sanghun.project.howtouseai.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestContextHolder;
+import sanghun.project.howtouseai.event.CardCreatedEvent;
+import sanghun.project.howtouseai.event.CardLikeToggledEvent;
+import sanghun.project.howtouseai.event.CardUpdatedEvent;
+import sanghun.project.howtouseai.service.UserIdentityService;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자가 직접 쓴 내용을 복제 지연 때문에 못 보는 일이 없도록, 쓰기 직후 일정 시간 그 사용자의 읽기를 주 DB 로 보냅니다.
+ * <p>
+ * 좋아요/카드 생성·수정 이벤트(커밋 후)로 사용자 UUID 별 만료 시각을 기록하고,
+ * {@link ReplicaRoutingFilter} 가 요청의 UUID 가 구간 안에 있으면 요청 스레드를 주 DB 에 고정합니다.
+ * 쓰기를 한 요청 자체도 이후 읽기는 주 DB 를 사용합니다. 고정은 필터만 해제하므로, 요청 밖 스레드
+ * (일괄 가져오기, 스케줄러, 쓰기 지연 플러시 등)에서는 UUID 조회 동안만 고정했다가 바로 풉니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "datasource.replicas.enabled", havingValue = "true")
+public class ReadYourWritesTracker {
+
+    private final UserIdentityService userIdentityService;
+
+    @Value("${datasource.replicas.read-your-writes-window:5s}")
+    private Duration window;
+
+    // 사용자 UUID -> 주 DB 고정 만료 시각 (System.nanoTime 기준)
+    private final ConcurrentHashMap<String, Long> primaryUntilByUuid = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자가 쓰기 구간 안에 있으면 현재 스레드를 주 DB 에 고정합니다.
+     */
+    public void pinIfRecentWriter(String uuid) {
+        if (uuid == null) {
+            return;
+        }
+        Long until = primaryUntilByUuid.get(uuid);
+        if (until == null) {
+            return;
+        }
+        if (System.nanoTime() - until < 0) {
+            ReplicaRoutingDataSource.pinToPrimary();
+        } else {
+            primaryUntilByUuid.remove(uuid, until);
+        }
+    }
+
+    public void recordWrite(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        boolean inRequest = RequestContextHolder.getRequestAttributes() != null;
+        // UUID 조회도 방금 쓴 주 DB 에서 하도록 먼저 고정
+        ReplicaRoutingDataSource.pinToPrimary();
+        try {
+            String uuid = userIdentityService.uuidOf(userId);
+            if (uuid != null) {
+                primaryUntilByUuid.put(uuid, System.nanoTime() + window.toNanos());
+            }
+        } finally {
+            // 요청 스레드는 필터가 요청 끝에 풀어 주지만, 풀 스레드에 남은 고정은 아무도 풀지 않음
+            if (!inRequest) {
+                ReplicaRoutingDataSource.unpin();
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCardLikeToggled(CardLikeToggledEvent event) {
+        recordWrite(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCardCreated(CardCreatedEvent event) {
+        recordWrite(event.card().getOwnerId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCardUpdated(CardUpdatedEvent event) {
+        recordWrite(event.card().getOwnerId());
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replicas.read-your-writes-purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        primaryUntilByUuid.values().removeIf(until -> now - until >= 0);
+    }
+}
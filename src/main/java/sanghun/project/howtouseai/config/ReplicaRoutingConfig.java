@@ -0,0 +1,88 @@
+package sanghun.project.howtouseai.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 복제본 라우팅 설정 (datasource.replicas.enabled=true 일 때만 적용)
+ * <pre>
+ * datasource.replicas.enabled=true
+ * datasource.replicas.urls=jdbc:mysql://replica-1:3306/howtouseai,jdbc:mysql://replica-2:3306/howtouseai
+ * datasource.replicas.strategy=round-robin        # 또는 least-busy (활성 연결이 가장 적은 풀)
+ * datasource.replicas.read-your-writes-window=5s
+ * datasource.replicas.retry-interval=10s          # 연결 실패한 복제본을 다시 시도하기까지의 시간
+ * </pre>
+ * 주 DB 는 기존 spring.datasource.* 설정을 그대로 사용하며, 복제본 계정을 따로 주지 않으면 주 DB 계정을 사용합니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "datasource.replicas.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.replicas.urls}") List<String> urls,
+            @Value("${datasource.replicas.username:}") String username,
+            @Value("${datasource.replicas.password:}") String password,
+            @Value("${datasource.replicas.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${datasource.replicas.connection-timeout:2s}") Duration connectionTimeout,
+            @Value("${datasource.replicas.strategy:round-robin}") String strategy,
+            @Value("${datasource.replicas.retry-interval:10s}") Duration retryInterval) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : urls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(username.isEmpty() ? properties.determineUsername() : username);
+            replica.setPassword(password.isEmpty() ? properties.determinePassword() : password);
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setReadOnly(true);
+            // 복제본이 내려가 있어도 애플리케이션은 뜨고, 연결 실패 시 짧게 기다린 뒤 주 DB 로 대체
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            replica.setInitializationFailTimeout(-1);
+            replica.setMetricRegistry(meterRegistry);
+            replicas.put(replica.getPoolName(), replica);
+        }
+        log.info("읽기 복제본 라우팅 활성화: replicas={}, strategy={}", replicas.keySet(), strategy);
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas,
+                ReplicaRoutingDataSource.Strategy.from(strategy), retryInterval);
+    }
+
+    /**
+     * JPA/JdbcTemplate 이 사용하는 DataSource. 첫 쿼리 시점에 연결을 얻어 트랜잭션의 readOnly 여부로 라우팅합니다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,168 @@
+package sanghun.project.howtouseai.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션의 연결을 복제본 풀로 보내는 라우팅 DataSource
+ * <p>
+ * 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 연결을 얻어야 readOnly 여부가 보이므로
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용합니다.
+ * 다음 경우에는 주 DB 로 보냅니다.
+ * <ul>
+ *     <li>트랜잭션이 없거나 읽기-쓰기 트랜잭션</li>
+ *     <li>현재 스레드가 주 DB 에 고정된 경우 (자기 쓰기 직후 구간, {@link #pinToPrimary()})</li>
+ *     <li>모든 복제본이 장애로 표시된 경우</li>
+ * </ul>
+ * 복제본 연결에 실패하면 retryInterval 동안 장애로 표시하고 주 DB 연결로 대신합니다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    public enum Strategy {
+        ROUND_ROBIN, LEAST_BUSY;
+
+        public static Strategy from(String value) {
+            return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Strategy strategy;
+    private final long retryIntervalNanos;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Strategy strategy,
+                                    Duration retryInterval) {
+        this.primary = primary;
+        this.strategy = strategy;
+        this.retryIntervalNanos = retryInterval.toNanos();
+        this.replicas = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+    }
+
+    /**
+     * 현재 스레드의 이후 연결을 모두 주 DB 로 보냅니다. (요청이 끝나면 {@link #unpin()})
+     */
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PINNED_TO_PRIMARY.remove();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = selectReplica();
+        if (replica != null) {
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Replica replica = selectReplica();
+        if (replica != null) {
+            try {
+                return replica.dataSource.getConnection(username, password);
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+        return primary.getConnection(username, password);
+    }
+
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("복제본 풀 종료 실패: replica={}, reason={}", replica.name, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private Replica selectReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || Boolean.TRUE.equals(PINNED_TO_PRIMARY.get())) {
+            return null;
+        }
+        long now = System.nanoTime();
+        List<Replica> available = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (replica.isUp(now)) {
+                available.add(replica);
+            }
+        }
+        if (available.isEmpty()) {
+            return null;
+        }
+        if (strategy == Strategy.LEAST_BUSY) {
+            Replica leastBusy = available.get(0);
+            for (Replica replica : available) {
+                if (replica.activeConnections() < leastBusy.activeConnections()) {
+                    leastBusy = replica;
+                }
+            }
+            return leastBusy;
+        }
+        return available.get(Math.floorMod(nextReplica.getAndIncrement(), available.size()));
+    }
+
+    private void markDown(Replica replica, SQLException cause) {
+        replica.downUntil = System.nanoTime() + retryIntervalNanos;
+        log.warn("복제본 연결 실패, 주 DB 로 대체: replica={}, retryAfterMs={}, reason={}",
+                replica.name, retryIntervalNanos / 1_000_000, cause.getMessage());
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        // 장애 표시 만료 시각 (System.nanoTime 기준, 0 이면 정상)
+        private volatile long downUntil;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        boolean isUp(long now) {
+            long until = downUntil;
+            return until == 0 || now - until >= 0;
+        }
+
+        int activeConnections() {
+            if (dataSource instanceof HikariDataSource hikari) {
+                HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+                return pool == null ? 0 : pool.getActiveConnections();
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package sanghun.project.howtouseai.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청의 사용자 UUID(uuid 파라미터 또는 세션)가 최근 쓰기 구간 안에 있으면 요청 동안 주 DB 로 고정합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "datasource.replicas.enabled", havingValue = "true")
+public class ReplicaRoutingFilter extends OncePerRequestFilter {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        readYourWritesTracker.pinIfRecentWriter(userUuid(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.unpin();
+        }
+    }
+
+    private static String userUuid(HttpServletRequest request) {
+        String uuid = request.getParameter("uuid");
+        if (uuid != null) {
+            return uuid;
+        }
+        HttpSession session = request.getSession(false);
+        return session == null ? null : (String) session.getAttribute("uuid");
+    }
+}
@@ -1,19 +1,76 @@
 package sanghun.project.howtouseai.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    // 파일명에 콘텐츠 해시가 붙으므로 내용이 바뀌면 URL 도 바뀜 -> 재검증 없이 1년 캐시
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    // 해시 없는 CSS/JS URL 은 내용이 바뀌어도 같으므로 매번 재검증 (Last-Modified 로 304 응답)
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePublic();
+    // 이미지와 파비콘은 해시 없이 고정 경로로 참조되므로 짧게만 캐시
+    private static final CacheControl SHORT_LIVED = CacheControl.maxAge(Duration.ofHours(1)).cachePublic();
+    // VersionResourceResolver(콘텐츠 해시, MD5 32자)가 붙인 파일명: style-{hash}.css
+    private static final String HASHED_FILE = "{file:[\\w.-]+-[0-9a-f]{32}\\.(?:css|js)}";
+
+    // 스트리밍 응답(카드 내보내기)은 서블릿 기본 비동기 타임아웃(30초)보다 오래 걸릴 수 있음
+    @Value("${spring.mvc.async.request-timeout:30m}")
+    private Duration asyncRequestTimeout;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncRequestTimeout.toMillis());
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // 해시가 붙은 URL 만 immutable (경로 변수 패턴이 /** 보다 구체적이므로 먼저 매칭됨)
+        versioned(registry.addResourceHandler("/css/" + HASHED_FILE)
+                .addResourceLocations("classpath:/static/css/")
+                .setCacheControl(IMMUTABLE));
+        versioned(registry.addResourceHandler("/js/" + HASHED_FILE)
+                .addResourceLocations("classpath:/static/js/")
+                .setCacheControl(IMMUTABLE));
+        // 해시 없는 요청 처리와 템플릿 링크의 해시 URL 생성(ResourceUrlEncodingFilter)은 이 핸들러가 담당
+        versioned(registry.addResourceHandler("/css/**", "/js/**")
+                .addResourceLocations("classpath:/static/")
+                .setCacheControl(REVALIDATE));
+
+        registry.addResourceHandler("/images/**", "/favicon.ico")
+                .addResourceLocations("classpath:/static/")
+                .setCacheControl(SHORT_LIVED)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
+
         registry.addResourceHandler("/static/**")
                 .addResourceLocations("classpath:/static/");
-        
-        // 카테고리 아이콘 전용 핸들러
-        registry.addResourceHandler("/images/categories/**")
-                .addResourceLocations("classpath:/static/images/categories/");
     }
-} 
\ No newline at end of file
+
+    private static void versioned(ResourceHandlerRegistration registration) {
+        registration.resourceChain(true)
+                // 빌드 시 생성한 .gz 가 있으면 Accept-Encoding 에 따라 제공 (버전 해석보다 먼저 위치해야 함)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+
+    /**
+     * 템플릿의 @{/css/style.css} 같은 링크를 해시가 붙은 URL(/css/style-{hash}.css)로 바꿔 줍니다.
+     */
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+}
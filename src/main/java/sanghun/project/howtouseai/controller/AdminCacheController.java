@@ -0,0 +1,45 @@
+package sanghun.project.howtouseai.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import sanghun.project.howtouseai.dto.ApiResponse;
+import sanghun.project.howtouseai.dto.CacheStatsResponse;
+import sanghun.project.howtouseai.dto.ResponseHelper;
+import sanghun.project.howtouseai.service.CardDetailCache;
+import sanghun.project.howtouseai.service.CardTileCache;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/caches")
+@RequiredArgsConstructor
+public class AdminCacheController {
+
+    private final CardDetailCache cardDetailCache;
+    private final CardTileCache cardTileCache;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<CacheStatsResponse>>> getCacheStats() {
+        log.info("캐시 통계 조회 API 호출");
+        
+        try {
+            List<CacheStatsResponse> stats = List.of(cardDetailCache.stats(), cardTileCache.stats());
+            
+            ApiResponse<List<CacheStatsResponse>> response = ResponseHelper.success(
+                stats,
+                "캐시 통계를 성공적으로 조회했습니다."
+            );
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            log.error("캐시 통계 조회 중 오류 발생: {}", e.getMessage(), e);
+            throw e; // GlobalExceptionHandler에서 처리
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package sanghun.project.howtouseai.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import sanghun.project.howtouseai.dto.ApiResponse;
+import sanghun.project.howtouseai.dto.BulkImportResponse;
+import sanghun.project.howtouseai.dto.ResponseHelper;
+import sanghun.project.howtouseai.service.BulkImportService;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/import")
+@RequiredArgsConstructor
+public class AdminImportController {
+
+    private final BulkImportService bulkImportService;
+
+    /**
+     * 요청 본문(NDJSON 또는 CSV)을 버퍼링 없이 읽으며 카드와 좋아요를 일괄로 가져옵니다.
+     */
+    @PostMapping(consumes = {"application/x-ndjson", "application/jsonl", "application/json", "text/csv"})
+    public ResponseEntity<ApiResponse<BulkImportResponse>> importRecords(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+
+        log.info("일괄 가져오기 API 호출: contentType={}", contentType);
+
+        try {
+            BulkImportService.Format format = BulkImportService.Format.fromContentType(contentType);
+            BulkImportResponse result = bulkImportService.importRecords(body, format);
+
+            ApiResponse<BulkImportResponse> response = ResponseHelper.success(
+                result,
+                "일괄 가져오기가 완료되었습니다."
+            );
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("일괄 가져오기 중 오류 발생: {}", e.getMessage(), e);
+            throw e; // GlobalExceptionHandler에서 처리
+        }
+    }
+}
@@ -5,15 +5,27 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import sanghun.project.howtouseai.dto.ApiResponse;
 import sanghun.project.howtouseai.dto.CardCreateRequest;
 import sanghun.project.howtouseai.dto.CardResponse;
+import sanghun.project.howtouseai.dto.CardSummaryResponse;
+import sanghun.project.howtouseai.dto.CardSortType;
 import sanghun.project.howtouseai.dto.CardUpdateRequest;
+import sanghun.project.howtouseai.dto.CardVersionDto;
 import sanghun.project.howtouseai.dto.ResponseHelper;
+import sanghun.project.howtouseai.dto.SliceResponse;
 import sanghun.project.howtouseai.service.CardService;
+import sanghun.project.howtouseai.service.ContentVersionService;
+
+import java.util.List;
 
 @Slf4j
 @RestController
@@ -21,25 +33,38 @@ import sanghun.project.howtouseai.service.CardService;
 @RequiredArgsConstructor
 public class CardController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final CardService cardService;
+    private final ContentVersionService contentVersionService;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<CardResponse>>> getAllCards(
+    public ResponseEntity<ApiResponse<Page<CardSummaryResponse>>> getAllCards(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
         
         log.info("카드 목록 조회 API 호출: page={}, size={}", page, size);
         
         try {
-            Pageable pageable = PageRequest.of(page, size);
-            Page<CardResponse> cards = cardService.getAllCards(pageable);
+            // 전체 덤프는 /export 를 사용 (한 페이지에 모든 카드를 올리지 않도록 크기 제한)
+            Pageable pageable = PageRequest.of(page, Math.max(1, Math.min(size, MAX_PAGE_SIZE)), Sort.by("id"));
+            
+            // 버전만 조회해 변경이 없으면 카드 로딩/직렬화 없이 304 응답
+            String etag = contentVersionService.cardPageEtag(pageable);
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
             
-            ApiResponse<Page<CardResponse>> response = ResponseHelper.success(
+            Page<CardSummaryResponse> cards = cardService.getAllCards(pageable);
+            
+            ApiResponse<Page<CardSummaryResponse>> response = ResponseHelper.success(
                 cards,
                 "카드 목록을 성공적으로 조회했습니다."
             );
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().eTag(etag).body(response);
             
         } catch (Exception e) {
             log.error("카드 목록 조회 중 오류 발생: {}", e.getMessage(), e);
@@ -47,21 +72,92 @@ public class CardController {
         }
     }
 
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResponse<SliceResponse<CardSummaryResponse>>> getCardFeed(
+            @RequestParam(defaultValue = "popular") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        log.info("카드 피드 조회 API 호출: sort={}, size={}, cursor={}", sort, size, cursor);
+        
+        try {
+            SliceResponse<CardSummaryResponse> cards =
+                    cardService.getCardsByCursor(CardSortType.from(sort), cursor, size);
+            
+            ApiResponse<SliceResponse<CardSummaryResponse>> response = ResponseHelper.success(
+                cards,
+                "카드 목록을 성공적으로 조회했습니다."
+            );
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            log.error("카드 피드 조회 중 오류 발생: {}", e.getMessage(), e);
+            throw e; // GlobalExceptionHandler에서 처리
+        }
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportCards() {
+        log.info("카드 내보내기 API 호출");
+
+        // 본문은 비동기 스레드에서 스트리밍 조회 트랜잭션을 열어 기록
+        StreamingResponseBody body = out -> cardService.exportCards(out);
+
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"cards.ndjson\"")
+                .body(body);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<CardSummaryResponse>>> searchCards(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        log.info("카드 검색 API 호출: q={}, page={}, size={}", query, page, size);
+        
+        try {
+            List<CardSummaryResponse> cards = cardService.searchCards(query, page, size);
+            
+            ApiResponse<List<CardSummaryResponse>> response = ResponseHelper.success(
+                cards,
+                "카드 검색 결과를 성공적으로 조회했습니다."
+            );
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            log.error("카드 검색 중 오류 발생: {}", e.getMessage(), e);
+            throw e; // GlobalExceptionHandler에서 처리
+        }
+    }
+
     @GetMapping("/{cardId}")
     public ResponseEntity<ApiResponse<CardResponse>> getCardById(
             @PathVariable Long cardId,
-            @RequestParam(name = "uuid", required = false) String userUuid) {
+            @RequestParam(name = "uuid", required = false) String userUuid,
+            WebRequest webRequest) {
         log.info("카드 상세 조회 API 호출: cardId={}, userUuid={}", cardId, userUuid);
         
         try {
-            CardResponse cardResponse = cardService.getCardById(cardId, userUuid);
+            // 카드가 없으면 ETag 없이 진행해 404 응답
+            CardVersionDto version = contentVersionService.cardVersion(cardId).orElse(null);
+            String etag = version == null ? null : contentVersionService.cardEtag(version, userUuid);
+            if (etag != null && webRequest.checkNotModified(etag)) {
+                return null;
+            }
+            
+            // 본문은 ETag 와 같은 버전이어야 하므로 조회한 버전을 넘겨 캐시 값을 검증
+            CardResponse cardResponse = cardService.getCardById(cardId, userUuid, version);
             
             ApiResponse<CardResponse> response = ResponseHelper.success(
                 cardResponse,
                 "카드 상세 정보를 성공적으로 조회했습니다."
             );
             
-            return ResponseEntity.ok(response);
+            return etag == null ? ResponseEntity.ok(response) : ResponseEntity.ok().eTag(etag).body(response);
             
         } catch (Exception e) {
             log.error("카드 상세 조회 중 오류 발생: {}", e.getMessage(), e);
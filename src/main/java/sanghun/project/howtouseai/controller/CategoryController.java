@@ -6,10 +6,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import sanghun.project.howtouseai.dto.ApiResponse;
 import sanghun.project.howtouseai.dto.CategoryResponse;
 import sanghun.project.howtouseai.dto.ResponseHelper;
 import sanghun.project.howtouseai.service.CategoryService;
+import sanghun.project.howtouseai.service.ContentVersionService;
 
 import java.util.List;
 
@@ -20,12 +22,18 @@ import java.util.List;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final ContentVersionService contentVersionService;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getAllCategories() {
+    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getAllCategories(WebRequest webRequest) {
         log.info("카테고리 목록 조회 API 호출");
         
         try {
+            String etag = contentVersionService.categoriesEtag();
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+            
             List<CategoryResponse> categories = categoryService.getAllCategories();
             
             ApiResponse<List<CategoryResponse>> response = ResponseHelper.success(
@@ -33,7 +41,7 @@ public class CategoryController {
                 "카테고리 목록을 성공적으로 조회했습니다."
             );
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().eTag(etag).body(response);
             
         } catch (Exception e) {
             log.error("카테고리 목록 조회 중 오류 발생: {}", e.getMessage(), e);
@@ -0,0 +1,142 @@
+package sanghun.project.howtouseai.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import sanghun.project.howtouseai.service.IconBlobStore;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+/**
+ * 아이콘 저장소의 파일을 제공합니다.
+ * <p>
+ * 본문은 힙 버퍼로 읽지 않습니다. Tomcat 이 sendfile 을 지원하면 파일 경로와 구간만 요청 속성으로 넘겨
+ * 커넥터가 커널에서 직접 전송하게 하고, 그렇지 않으면 FileChannel.transferTo 로 응답 스트림에 보냅니다.
+ * 키가 내용 해시이므로 ETag 는 해시 그대로이며 1년 immutable 캐시를 허용합니다. 단일 구간 Range 요청을 지원합니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/icons")
+@RequiredArgsConstructor
+public class IconController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final String CACHE_CONTROL =
+            CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable().getHeaderValue();
+
+    private final IconBlobStore iconBlobStore;
+
+    @GetMapping("/{key:.+}")
+    public void getIcon(@PathVariable String key, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Path path = iconBlobStore.find(key).orElse(null);
+        if (path == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String etag = "\"" + key.substring(0, key.indexOf('.')) + "\"";
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+
+        response.setContentType(key.endsWith(".svg") ? "image/svg+xml" : "image/png");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        if (key.endsWith(".svg")) {
+            // SVG 를 직접 열었을 때 포함된 스크립트가 실행되지 않도록 제한
+            response.setHeader("Content-Security-Policy", "default-src 'none'; style-src 'unsafe-inline'; sandbox");
+        }
+
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = file.size();
+            long start = 0;
+            long end = length; // exclusive
+
+            String range = request.getHeader(HttpHeaders.RANGE);
+            String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+            if (range != null && (ifRange == null || ifRange.equals(etag))) {
+                long[] bounds = parseRange(range, length);
+                if (bounds == null) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                if (bounds.length == 2) {
+                    start = bounds[0];
+                    end = bounds[1];
+                    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE,
+                            "bytes " + start + "-" + (end - 1) + "/" + length);
+                }
+            }
+            response.setContentLengthLong(end - start);
+
+            if ("HEAD".equals(request.getMethod())) {
+                return;
+            }
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+                request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START, start);
+                request.setAttribute(SENDFILE_END, end);
+                return;
+            }
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            for (long position = start; position < end; ) {
+                position += file.transferTo(position, end - position, out);
+            }
+        }
+    }
+
+    /**
+     * "bytes=a-b", "bytes=a-", "bytes=-n" 형식의 단일 구간을 [시작, 끝) 으로 해석합니다.
+     * 여러 구간이거나 형식을 알 수 없으면 빈 배열(전체 응답), 만족할 수 없으면 null 을 반환합니다.
+     */
+    private static long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return new long[0];
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) {
+                    return null;
+                }
+                return new long[]{Math.max(0, length - suffix), length};
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? length : Math.min(length, Long.parseLong(last) + 1);
+            if (start >= length || end <= start) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+}
@@ -10,8 +10,10 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import sanghun.project.howtouseai.service.CardService;
+import sanghun.project.howtouseai.service.CardTileCache;
 import sanghun.project.howtouseai.service.CategoryService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 
 @Slf4j
@@ -21,23 +23,26 @@ public class MainController {
 
     private final CardService cardService;
     private final CategoryService categoryService;
+    private final CardTileCache cardTileCache;
 
     @GetMapping("/")
-    public String index(Model model, HttpSession session) {
+    public String index(Model model, HttpSession session, HttpServletRequest request) {
         log.info("Main page accessed");
         
         String userUuid = getOrCreateUserUuid(session);
 
         try {
             Pageable pageable = PageRequest.of(0, 20);
-            var cards = cardService.getCardsForHomePage(pageable, userUuid);
-            model.addAttribute("cards", cards);
+            var tiles = cardTileCache.render(request.getContextPath(),
+                    () -> cardService.getCardsForHomePage(pageable, userUuid),
+                    cardService::getCardSummariesFromPrimary);
+            model.addAttribute("tiles", tiles);
             
-            log.info("Loaded {} cards", cards.size());
+            log.info("Loaded {} cards", tiles.size());
             
         } catch (Exception e) {
             log.error("Error loading card data: {}", e.getMessage(), e);
-            model.addAttribute("cards", java.util.Collections.emptyList());
+            model.addAttribute("tiles", java.util.Collections.emptyList());
         }
         
         return "index";
@@ -0,0 +1,73 @@
+package sanghun.project.howtouseai.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import sanghun.project.howtouseai.dto.ApiResponse;
+import sanghun.project.howtouseai.dto.CardSummaryResponse;
+import sanghun.project.howtouseai.dto.ResponseHelper;
+import sanghun.project.howtouseai.dto.SliceResponse;
+import sanghun.project.howtouseai.dto.TagCountResponse;
+import sanghun.project.howtouseai.service.CardService;
+import sanghun.project.howtouseai.service.TagService;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/tags")
+@RequiredArgsConstructor
+public class TagController {
+
+    private final TagService tagService;
+    private final CardService cardService;
+
+    @GetMapping("/top")
+    public ResponseEntity<ApiResponse<List<TagCountResponse>>> getTopTags(
+            @RequestParam(defaultValue = "20") int limit) {
+        log.info("인기 태그 조회 API 호출: limit={}", limit);
+        
+        try {
+            List<TagCountResponse> tags = tagService.getTopTags(limit);
+            
+            ApiResponse<List<TagCountResponse>> response = ResponseHelper.success(
+                tags,
+                "인기 태그 목록을 성공적으로 조회했습니다."
+            );
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            log.error("인기 태그 조회 중 오류 발생: {}", e.getMessage(), e);
+            throw e; // GlobalExceptionHandler에서 처리
+        }
+    }
+
+    @GetMapping("/{tag}/cards")
+    public ResponseEntity<ApiResponse<SliceResponse<CardSummaryResponse>>> getCardsByTag(
+            @PathVariable String tag,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("태그별 카드 조회 API 호출: tag={}, cursor={}, size={}", tag, cursor, size);
+        
+        try {
+            SliceResponse<CardSummaryResponse> cards = cardService.getCardsByTag(tag, cursor, size);
+            
+            ApiResponse<SliceResponse<CardSummaryResponse>> response = ResponseHelper.success(
+                cards,
+                "태그별 카드 목록을 성공적으로 조회했습니다."
+            );
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            log.error("태그별 카드 조회 중 오류 발생: {}", e.getMessage(), e);
+            throw e; // GlobalExceptionHandler에서 처리
+        }
+    }
+}
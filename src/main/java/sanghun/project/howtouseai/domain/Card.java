@@ -5,21 +5,31 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "card")
+@Table(name = "card", indexes = {
+        @Index(name = "idx_card_likes_created", columnList = "likes_count, created_at, id"),
+        @Index(name = "idx_card_created", columnList = "created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// 변경된 컬럼만 UPDATE: 카드 수정 시 원자적 쿼리로 관리하는 likes_count 를 로딩 시점 값으로 덮어쓰지 않도록
+@DynamicUpdate
 public class Card {
 
+    public static final int EXCERPT_LENGTH = 200;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "uuid", nullable = false, length = 255)
-    private String uuid;
+    // 작성자 (user_identity.id). 기존 데이터 이관 후 UserIdentityMigration 이 NOT NULL 로 변경
+    @Column(name = "owner_id")
+    private Long ownerId;
 
     @Column(name = "title", nullable = false, length = 255)
     private String title;
@@ -28,6 +38,10 @@ public class Card {
     @JoinColumn(name = "category_id")
     private Category category;
 
+    // 카테고리 FK 값 (읽기 전용). 응답 변환 시 연관 엔티티를 로딩하지 않고 카테고리 스냅샷에서 찾기 위해 사용
+    @Column(name = "category_id", insertable = false, updatable = false)
+    private Long categoryId;
+
     @Column(name = "tags", columnDefinition = "TEXT")
     private String tags;
 
@@ -40,30 +54,76 @@ public class Card {
     @Column(name = "content", columnDefinition = "TEXT")
     private String content;
 
-    @Column(name = "created_at")
+    // 목록 화면용 본문 요약 (content 에서 미리 계산). 목록 쿼리는 TEXT 컬럼 대신 이 컬럼만 읽음
+    @Column(name = "excerpt", length = EXCERPT_LENGTH + 1)
+    private String excerpt;
+
+    // 커서 페이지네이션의 정렬 키. 레거시 NULL 행은 CardCreatedAtMigration 이 채운 뒤 NOT NULL 로 변경
+    @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    // 좋아요 수 (card_like 집계 대신 사용하는 비정규화 컬럼, 원자적 UPDATE 쿼리로만 증감)
+    @ColumnDefault("0")
+    @Column(name = "likes_count", nullable = false)
+    private Long likesCount;
+
+    // 좋아요 추가/취소마다 증가 (좋아요 수가 같아도 좋아요한 사용자가 바뀐 경우를 ETag 로 구분)
+    @ColumnDefault("0")
+    @Column(name = "likes_version", nullable = false)
+    private Long likesVersion;
+
+    // 카드 내용 버전 (수정 시 JPA 가 증가, ETag 에 사용)
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Builder
-    public Card(Long id, String uuid, String title, Category category, String tags, String situation, 
+    public Card(Long id, Long ownerId, String title, Category category, String tags, String situation, 
                 String usageExamples, String content) {
         this.id = id;
-        this.uuid = uuid;
+        this.ownerId = ownerId;
         this.title = title;
         this.category = category;
+        this.categoryId = category == null ? null : category.getId();
         this.tags = tags;
         this.situation = situation;
         this.usageExamples = usageExamples;
         this.content = content;
+        this.excerpt = excerptOf(content);
         this.createdAt = LocalDateTime.now();
+        this.likesCount = 0L;
+        this.likesVersion = 0L;
     }
 
     public void updateInfo(String title, Category category, String tags, String situation, 
                           String usageExamples, String content) {
         this.title = title;
         this.category = category;
+        this.categoryId = category == null ? null : category.getId();
         this.tags = tags;
         this.situation = situation;
         this.usageExamples = usageExamples;
         this.content = content;
+        this.excerpt = excerptOf(content);
+    }
+
+    /**
+     * 본문의 연속 공백을 하나로 줄이고 EXCERPT_LENGTH 자를 넘으면 잘라 말줄임표를 붙입니다.
+     */
+    public static String excerptOf(String content) {
+        if (content == null) {
+            return null;
+        }
+        String normalized = content.replaceAll("\\s+", " ").strip();
+        if (normalized.length() <= EXCERPT_LENGTH) {
+            return normalized;
+        }
+        int end = EXCERPT_LENGTH;
+        // 서로게이트 쌍(이모지 등)이 잘리지 않도록
+        if (Character.isHighSurrogate(normalized.charAt(end - 1))) {
+            end--;
+        }
+        return normalized.substring(0, end).stripTrailing() + "…";
     }
 }
\ No newline at end of file
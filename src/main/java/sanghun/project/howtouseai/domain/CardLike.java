@@ -9,7 +9,8 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "card_like")
+@Table(name = "card_like",
+       uniqueConstraints = @UniqueConstraint(name = "uk_card_like_card_user", columnNames = {"card_id", "user_id"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CardLike {
@@ -22,16 +23,17 @@ public class CardLike {
     @JoinColumn(name = "card_id")
     private Card card;
 
-    @Column(name = "uuid", nullable = false, length = 255)
-    private String uuid;
+    // 좋아요한 사용자 (user_identity.id). 기존 데이터 이관 후 UserIdentityMigration 이 NOT NULL 로 변경
+    @Column(name = "user_id")
+    private Long userId;
 
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
     @Builder
-    public CardLike(Card card, String uuid) {
+    public CardLike(Card card, Long userId) {
         this.card = card;
-        this.uuid = uuid;
+        this.userId = userId;
         this.createdAt = LocalDateTime.now();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,41 @@
+package sanghun.project.howtouseai.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카드와 태그의 연결 (position 은 사용자가 입력한 태그 순서)
+ */
+@Entity
+@Table(name = "card_tag",
+       uniqueConstraints = @UniqueConstraint(name = "uk_card_tag_card_tag", columnNames = {"card_id", "tag_id"}),
+       indexes = @Index(name = "idx_card_tag_tag_card", columnList = "tag_id, card_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CardTag {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "card_id", nullable = false)
+    private Card card;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tag_id", nullable = false)
+    private Tag tag;
+
+    @Column(name = "position", nullable = false)
+    private int position;
+
+    @Builder
+    public CardTag(Card card, Tag tag, int position) {
+        this.card = card;
+        this.tag = tag;
+        this.position = position;
+    }
+}
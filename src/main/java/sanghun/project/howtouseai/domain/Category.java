@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -24,18 +25,38 @@ public class Category {
     @Column(name = "icon_url", nullable = false, length = 500)
     private String iconUrl;
 
+    // 고해상도 화면용 2x 아이콘 (SVG 이거나 변형 생성 이전에 등록된 아이콘은 null)
+    @Column(name = "icon_url_2x", length = 500)
+    private String iconUrl2x;
+
+    // 로딩 전 표시할 저해상도 자리표시 이미지 (data URI)
+    @Column(name = "icon_placeholder", length = 1000)
+    private String iconPlaceholder;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Builder
-    public Category(String name, String iconUrl) {
+    public Category(String name, String iconUrl, String iconUrl2x, String iconPlaceholder) {
         this.name = name;
         this.iconUrl = iconUrl;
+        this.iconUrl2x = iconUrl2x;
+        this.iconPlaceholder = iconPlaceholder;
         this.createdAt = LocalDateTime.now();
     }
 
-    public void updateInfo(String name, String iconUrl) {
+    public void updateInfo(String name) {
         this.name = name;
+    }
+
+    public void updateIcon(String iconUrl, String iconUrl2x, String iconPlaceholder) {
         this.iconUrl = iconUrl;
+        this.iconUrl2x = iconUrl2x;
+        this.iconPlaceholder = iconPlaceholder;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,28 @@
+package sanghun.project.howtouseai.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 목록 단위 버전 (카드 생성/삭제, 카테고리 생성/수정 시 증가). 목록 응답의 ETag 계산에 사용합니다.
+ * 일회성 마이그레이션의 완료 표시로도 사용합니다. (행 존재 여부만 확인)
+ */
+@Entity
+@Table(name = "collection_version")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CollectionVersion {
+
+    public static final String CARDS = "cards";
+    public static final String CATEGORIES = "categories";
+    public static final String LIKES_COUNT_BACKFILL = "likes_count_backfill";
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+}
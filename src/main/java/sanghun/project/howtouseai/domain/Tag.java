@@ -0,0 +1,33 @@
+package sanghun.project.howtouseai.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "tag",
+       uniqueConstraints = @UniqueConstraint(name = "uk_tag_name", columnNames = "name"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Tag {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Builder
+    public Tag(String name) {
+        this.name = name;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,37 @@
+package sanghun.project.howtouseai.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 클라이언트 UUID 와 내부 대리 키(BIGINT)의 매핑.
+ * card_like, card 는 UUID 문자열 대신 이 ID 를 참조합니다.
+ */
+@Entity
+@Table(name = "user_identity",
+       uniqueConstraints = @UniqueConstraint(name = "uk_user_identity_uuid", columnNames = "uuid"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserIdentity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "uuid", nullable = false, length = 255)
+    private String uuid;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Builder
+    public UserIdentity(String uuid) {
+        this.uuid = uuid;
+        this.createdAt = LocalDateTime.now();
+    }
+}
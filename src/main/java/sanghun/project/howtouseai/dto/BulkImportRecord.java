@@ -0,0 +1,48 @@
+package sanghun.project.howtouseai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 가져오기의 한 행 (NDJSON 한 줄 또는 CSV 한 행)
+ * <p>
+ * type 이 "card"(기본값)이면 카드 한 장, "like" 이면 좋아요 하나입니다.
+ * 좋아요 대상 카드는 cardId 로 지정하거나, title 과 cardUuid(작성자 UUID)로 지정합니다.
+ * 후자는 같은 파일에서 함께 가져오는 카드도 가리킬 수 있습니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportRecord {
+
+    public static final String TYPE_CARD = "card";
+    public static final String TYPE_LIKE = "like";
+
+    private String type;
+
+    private String title;
+
+    private Long categoryId;
+
+    private String tags;
+
+    private String situation;
+
+    private String usageExamples;
+
+    private String content;
+
+    // 카드: 작성자 UUID, 좋아요: 좋아요한 사용자 UUID
+    private String uuid;
+
+    private Long cardId;
+
+    private String cardUuid;
+
+    public boolean isLike() {
+        return TYPE_LIKE.equalsIgnoreCase(type);
+    }
+}
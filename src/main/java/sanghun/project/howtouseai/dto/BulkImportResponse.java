@@ -0,0 +1,21 @@
+package sanghun.project.howtouseai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResponse {
+    private long cardsImported;
+    private long likesImported;
+    private long duplicatesSkipped;   // 이미 있거나 파일 안에서 중복된 (title, uuid) 카드와 좋아요
+    private long rejected;            // 검증 실패 행
+    private List<String> errors;      // 검증 실패 사유 (앞쪽 일부만)
+    private long elapsedMillis;
+}
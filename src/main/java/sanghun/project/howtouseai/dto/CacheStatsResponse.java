@@ -0,0 +1,22 @@
+package sanghun.project.howtouseai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+    private String name;
+    private long hits;
+    private long misses;
+    private long loads;           // 실제 DB 로딩 횟수 (동시 미스는 한 번으로 합쳐짐)
+    private long evictions;       // 용량 초과로 밀려난 항목 수
+    private long invalidations;
+    private int entries;
+    private long weightBytes;     // 현재 추정 사용량
+    private long maxWeightBytes;
+}
@@ -0,0 +1,24 @@
+package sanghun.project.howtouseai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전체 내보내기용 카드 프로젝션 (작성자 UUID 포함)
+ */
+@Getter
+@AllArgsConstructor
+public class CardExportDto {
+    private Long id;
+    private String ownerUuid;
+    private String title;
+    private Long categoryId;
+    private String tags;
+    private String situation;
+    private String usageExamples;
+    private String content;
+    private LocalDateTime createdAt;
+    private Long likesCount;
+}
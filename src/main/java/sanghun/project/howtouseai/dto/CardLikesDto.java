@@ -0,0 +1,15 @@
+package sanghun.project.howtouseai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 좋아요 토글 직후의 카드 좋아요 수와 좋아요 버전
+ */
+@Getter
+@AllArgsConstructor
+public class CardLikesDto {
+    private Long cardId;
+    private Long likesCount;
+    private Long likesVersion;
+}
@@ -0,0 +1,14 @@
+package sanghun.project.howtouseai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class CardRankDto {
+    private Long cardId;
+    private Long likesCount;
+    private LocalDateTime createdAt;
+}
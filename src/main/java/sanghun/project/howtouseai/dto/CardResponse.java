@@ -9,7 +9,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class CardResponse {
@@ -18,11 +18,13 @@ public class CardResponse {
     private String title;
     private CategoryResponse category;
     private String tags;
+    private List<String> tagList;  // 분리된 태그 목록 (입력 순서)
     private String situation;
     private String usageExamples;
     private String content;
     private LocalDateTime createdAt;
     private Long likesCount;  // 좋아요 수
     private boolean likedByUser; // 현재 사용자의 좋아요 여부
-    private List<String> likedUserUuids;  // 좋아요한 사용자 UUID 목록
+    private Long version;  // 카드 내용 버전
+    private Long likesVersion;  // 좋아요 버전
 } 
\ No newline at end of file
@@ -0,0 +1,19 @@
+package sanghun.project.howtouseai.dto;
+
+import java.util.Locale;
+
+/**
+ * 카드 목록 커서 페이지네이션 정렬 기준
+ */
+public enum CardSortType {
+    LATEST,   // 생성일 최신순
+    POPULAR;  // 좋아요 순 → 생성일 최신순 (홈 피드와 동일)
+
+    public static CardSortType from(String value) {
+        try {
+            return CardSortType.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + value);
+        }
+    }
+}
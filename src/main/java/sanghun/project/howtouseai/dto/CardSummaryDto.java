@@ -0,0 +1,22 @@
+package sanghun.project.howtouseai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 조회용 카드 요약 프로젝션 (TEXT 컬럼 제외)
+ */
+@Getter
+@AllArgsConstructor
+public class CardSummaryDto {
+    private Long id;
+    private Long ownerId;
+    private String title;
+    private Long categoryId;
+    private String excerpt;
+    private Long likesCount;
+    private LocalDateTime createdAt;
+    private Long version;
+}
@@ -0,0 +1,30 @@
+package sanghun.project.howtouseai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 목록 화면용 카드 응답. 본문 전체 대신 요약만 담으며, 전체 내용은 상세 조회(CardResponse)로 제공합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardSummaryResponse {
+    private Long id;
+    private String uuid;
+    private String title;
+    private CategoryResponse category;
+    private List<String> tagList;  // 앞쪽 태그 일부 (입력 순서)
+    private int tagCount;  // 전체 태그 수
+    private String excerpt;  // 본문 요약
+    private LocalDateTime createdAt;
+    private Long likesCount;  // 좋아요 수
+    private boolean likedByUser; // 현재 사용자의 좋아요 여부
+    private Long version;  // 카드 내용 버전 (좋아요 제외, 타일 캐시 키)
+}
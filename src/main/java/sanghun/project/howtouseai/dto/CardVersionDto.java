@@ -0,0 +1,15 @@
+package sanghun.project.howtouseai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 조건부 GET(ETag) 계산용 카드 버전 정보 (내용 버전, 좋아요 버전)
+ */
+@Getter
+@AllArgsConstructor
+public class CardVersionDto {
+    private Long cardId;
+    private Long version;
+    private Long likesVersion;
+}
@@ -0,0 +1,17 @@
+package sanghun.project.howtouseai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 업로드된 카테고리 아이콘의 저장 결과 (1x/2x 변형 URL, 저해상도 자리표시 이미지)
+ * <p>
+ * SVG 는 벡터 이미지라 변형을 만들지 않으므로 iconUrl2x, placeholder 가 null 입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CategoryIconDto {
+    private String iconUrl;
+    private String iconUrl2x;
+    private String placeholder;
+}
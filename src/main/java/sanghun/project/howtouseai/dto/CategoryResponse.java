@@ -2,6 +2,7 @@ package sanghun.project.howtouseai.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -9,6 +10,7 @@ import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@EqualsAndHashCode  // 스냅샷 갱신 시 내용 변경 여부 비교용
 @NoArgsConstructor
 @AllArgsConstructor
 public class CategoryResponse {
@@ -16,6 +18,8 @@ public class CategoryResponse {
     private Long id;
     private String name;
     private String iconUrl;
+    private String iconUrl2x;
+    private String iconPlaceholder;
     private LocalDateTime createdAt;
 
     public CategoryResponse(Long id, String name, String iconUrl) {
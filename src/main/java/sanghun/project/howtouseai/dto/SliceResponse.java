@@ -0,0 +1,22 @@
+package sanghun.project.howtouseai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 응답 (전체 개수 없이 다음 페이지 커서만 제공)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SliceResponse<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;  // 다음 페이지 요청 시 전달할 불투명 토큰 (마지막 페이지면 null)
+}
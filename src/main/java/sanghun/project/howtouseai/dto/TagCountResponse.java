@@ -0,0 +1,15 @@
+package sanghun.project.howtouseai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagCountResponse {
+    private String name;
+    private int cardCount;  // 태그가 달린 카드 수
+}
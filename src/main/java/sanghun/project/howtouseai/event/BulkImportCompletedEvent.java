@@ -0,0 +1,7 @@
+package sanghun.project.howtouseai.event;
+
+/**
+ * 일괄 가져오기가 끝났을 때 발행되는 이벤트 (메모리 인덱스 재구성용)
+ */
+public record BulkImportCompletedEvent(long cardsImported, long likesImported) {
+}
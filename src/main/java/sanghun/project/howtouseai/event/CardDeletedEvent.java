@@ -0,0 +1,7 @@
+package sanghun.project.howtouseai.event;
+
+/**
+ * 카드가 삭제되었을 때 발행되는 이벤트 (트랜잭션 커밋 후 처리)
+ */
+public record CardDeletedEvent(Long cardId) {
+}
@@ -0,0 +1,15 @@
+package sanghun.project.howtouseai.event;
+
+/**
+ * 카드의 좋아요 상태가 바뀌었을 때 발행되는 이벤트 (트랜잭션 커밋 후 처리)
+ *
+ * @param cardId     카드 ID
+ * @param userId     사용자 ID (user_identity.id)
+ * @param liked      토글 후 좋아요 상태
+ * @param likesCount 토글 후 총 좋아요 수
+ * @param likesVersion 토글 후 좋아요 버전. 커밋 후 이벤트는 순서대로 처리된다는 보장이 없으므로
+ *                     같은 카드의 이벤트끼리 선후를 비교하는 데 사용합니다.
+ *                     (write-behind 모드에서는 DB 반영 전이므로 버퍼가 매기는 순번)
+ */
+public record CardLikeToggledEvent(Long cardId, Long userId, boolean liked, long likesCount, long likesVersion) {
+}
@@ -0,0 +1,9 @@
+package sanghun.project.howtouseai.event;
+
+import sanghun.project.howtouseai.domain.Card;
+
+/**
+ * 카드 내용이 수정되었을 때 발행되는 이벤트 (트랜잭션 커밋 후 처리)
+ */
+public record CardUpdatedEvent(Card card) {
+}
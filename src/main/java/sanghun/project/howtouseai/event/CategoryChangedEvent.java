@@ -0,0 +1,7 @@
+package sanghun.project.howtouseai.event;
+
+/**
+ * 카테고리가 생성되거나 수정되었을 때 발행되는 이벤트 (트랜잭션 커밋 후 처리)
+ */
+public record CategoryChangedEvent(Long categoryId) {
+}
@@ -1,27 +1,39 @@
 package sanghun.project.howtouseai.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import sanghun.project.howtouseai.domain.CardLike;
 import sanghun.project.howtouseai.dto.CardLikeCountDto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CardLikeRepository extends JpaRepository<CardLike, Long> {
     
-    Optional<CardLike> findByCardIdAndUuid(Long cardId, String uuid);
+    Optional<CardLike> findByCardIdAndUserId(Long cardId, Long userId);
     
-    boolean existsByCardIdAndUuid(Long cardId, String uuid);
-    
-    @Query("SELECT cl.uuid FROM CardLike cl WHERE cl.card.id = :cardId")
-    List<String> findUuidsByCardId(@Param("cardId") Long cardId);
+    boolean existsByCardIdAndUserId(Long cardId, Long userId);
     
     @Query("SELECT COUNT(cl) FROM CardLike cl WHERE cl.card.id = :cardId")
     Long countByCardId(@Param("cardId") Long cardId);
+
+    // (card_id, user_id) 유니크 제약을 이용한 조건부 추가: 이미 존재하면 0 반환
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO card_like (card_id, user_id, created_at) " +
+                   "VALUES (:cardId, :userId, :createdAt)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("cardId") Long cardId, @Param("userId") Long userId,
+                       @Param("createdAt") LocalDateTime createdAt);
+
+    // 조건부 삭제: 삭제된 행 수(0 또는 1) 반환
+    @Modifying
+    @Query("DELETE FROM CardLike cl WHERE cl.card.id = :cardId AND cl.userId = :userId")
+    int deleteByCardIdAndUserIdIfPresent(@Param("cardId") Long cardId, @Param("userId") Long userId);
     
     // 카드 ID로 모든 좋아요 데이터 삭제
     void deleteByCardId(Long cardId);
@@ -1,46 +1,133 @@
 package sanghun.project.howtouseai.repository;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import sanghun.project.howtouseai.domain.Card;
+import sanghun.project.howtouseai.dto.CardExportDto;
+import sanghun.project.howtouseai.dto.CardLikesDto;
+import sanghun.project.howtouseai.dto.CardRankDto;
+import sanghun.project.howtouseai.dto.CardSummaryDto;
+import sanghun.project.howtouseai.dto.CardVersionDto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface CardRepository extends JpaRepository<Card, Long> {
+
+    String EXPORT_QUERY = "SELECT new sanghun.project.howtouseai.dto.CardExportDto(c.id, u.uuid, c.title, " +
+            "c.categoryId, c.tags, c.situation, c.usageExamples, c.content, c.createdAt, c.likesCount) " +
+            "FROM Card c LEFT JOIN UserIdentity u ON u.id = c.ownerId ORDER BY c.id";
     
     Page<Card> findByCategoryId(Long categoryId, Pageable pageable);
     
     @Query("SELECT c FROM Card c WHERE c.category.id = :categoryId ORDER BY c.createdAt DESC")
     List<Card> findByCategoryIdOrderByCreatedAtDesc(@Param("categoryId") Long categoryId);
     
-    @Query("SELECT c FROM Card c WHERE c.tags LIKE %:tag%")
-    List<Card> findByTagsContaining(@Param("tag") String tag);
-    
     List<Card> findAllByOrderByCreatedAtDesc();
     
-    boolean existsByTitleAndUuid(String title, String uuid);
+    boolean existsByTitleAndOwnerId(String title, Long ownerId);
     
-    @Query("SELECT c FROM Card c JOIN FETCH c.category ORDER BY " +
+    @Query("SELECT c FROM Card c ORDER BY " +
            "(SELECT COUNT(cl) FROM CardLike cl WHERE cl.card.id = c.id) DESC, " +
            "c.createdAt DESC")
     Page<Card> findAllByOrderByLikesCountDescCreatedAtDesc(Pageable pageable);
     
-    // 더 효율적인 정렬을 위한 대안 쿼리 (서브쿼리 없이)
-    @Query("SELECT c FROM Card c JOIN FETCH c.category " +
-           "LEFT JOIN CardLike cl ON c.id = cl.card.id " +
-           "GROUP BY c.id, c.uuid, c.title, c.category.id, c.tags, c.situation, c.usageExamples, c.content, c.createdAt " +
-           "ORDER BY COUNT(cl.id) DESC, c.createdAt DESC")
-    Page<Card> findAllWithCategoryOrderedByLikesAndDate(Pageable pageable);
-
-    @Query("SELECT c FROM Card c JOIN FETCH c.category")
-    Page<Card> findAllWithCategory(Pageable pageable);
-    
-    @Query("SELECT c FROM Card c JOIN FETCH c.category WHERE c.id = :id")
-    Optional<Card> findByIdWithCategory(@Param("id") Long id);
-} 
\ No newline at end of file
+    // 목록 조회용 요약 프로젝션: TEXT 컬럼(tags, situation, usage_examples, content)을 읽지 않음
+    String SUMMARY_SELECT = "SELECT new sanghun.project.howtouseai.dto.CardSummaryDto(" +
+            "c.id, c.ownerId, c.title, c.categoryId, c.excerpt, c.likesCount, c.createdAt, c.version) FROM Card c ";
+
+    // 카테고리는 CategoryCatalog 스냅샷에서 찾으므로 목록 쿼리에서 JOIN 하지 않음
+    @Query(SUMMARY_SELECT + "WHERE c.id IN :ids")
+    List<CardSummaryDto> findSummariesByIdIn(@Param("ids") List<Long> ids);
+
+    @Query(value = SUMMARY_SELECT, countQuery = "SELECT COUNT(c) FROM Card c")
+    Page<CardSummaryDto> findSummaries(Pageable pageable);
+
+    // 커서(keyset) 페이지네이션: OFFSET/COUNT 없이 마지막 정렬 키 이후만 조회
+    @Query(SUMMARY_SELECT + "ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<CardSummaryDto> findLatestSlice(Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+           "WHERE c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<CardSummaryDto> findLatestSliceAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                               Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "ORDER BY c.likesCount DESC, c.createdAt DESC, c.id DESC")
+    Slice<CardSummaryDto> findPopularSlice(Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+           "WHERE c.likesCount < :likesCount " +
+           "OR (c.likesCount = :likesCount AND (c.createdAt < :createdAt " +
+           "OR (c.createdAt = :createdAt AND c.id < :id))) " +
+           "ORDER BY c.likesCount DESC, c.createdAt DESC, c.id DESC")
+    Slice<CardSummaryDto> findPopularSliceAfter(@Param("likesCount") Long likesCount,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id, Pageable pageable);
+
+    // 전체 내보내기용 전진 전용 스트리밍 조회 (호출 측 트랜잭션 안에서 소비하고 닫아야 함)
+    // 스트리밍 중에는 같은 연결로 다른 쿼리를 실행할 수 없으므로 작성자 UUID 를 함께 읽음
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query(EXPORT_QUERY)
+    Stream<CardExportDto> streamAllForExport();
+
+    // MySQL 전용: 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때만 결과를 한 행씩 스트리밍함
+    // (양수 값은 useCursorFetch 없이는 무시되어 전체 결과를 메모리에 읽음). 다른 드라이버는 음수 값을 거부
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query(EXPORT_QUERY)
+    Stream<CardExportDto> streamAllForExportRowByRow();
+
+    // 순위 인덱스 구성용 (TEXT 컬럼 없이 정렬 키만 조회)
+    @Query("SELECT new sanghun.project.howtouseai.dto.CardRankDto(c.id, c.likesCount, c.createdAt) FROM Card c")
+    List<CardRankDto> findAllRanks();
+
+    @Query("SELECT c.likesCount FROM Card c WHERE c.id = :id")
+    Optional<Long> findLikesCountById(@Param("id") Long id);
+
+    @Query("SELECT new sanghun.project.howtouseai.dto.CardLikesDto(c.id, c.likesCount, c.likesVersion) " +
+           "FROM Card c WHERE c.id = :id")
+    Optional<CardLikesDto> findLikesById(@Param("id") Long id);
+
+    // 조건부 GET(ETag)용 버전 조회: TEXT 컬럼 없이 PK 로만 조회
+    @Query("SELECT new sanghun.project.howtouseai.dto.CardVersionDto(c.id, c.version, c.likesVersion) " +
+           "FROM Card c WHERE c.id = :id")
+    Optional<CardVersionDto> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT new sanghun.project.howtouseai.dto.CardVersionDto(c.id, c.version, c.likesVersion) FROM Card c")
+    List<CardVersionDto> findVersions(Pageable pageable);
+
+    // 좋아요 토글이 card → card_like 순서로 락을 잡도록 카드 행을 먼저 배타 잠금
+    @Query(value = "SELECT id FROM card WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("id") Long id);
+
+    // 좋아요 수 원자적 증감 (읽기-수정-쓰기 없이 DB에서 직접 계산)
+    @Modifying
+    @Query("UPDATE Card c SET c.likesCount = c.likesCount + 1, c.likesVersion = c.likesVersion + 1 " +
+           "WHERE c.id = :id")
+    int incrementLikesCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Card c SET c.likesCount = c.likesCount - 1, c.likesVersion = c.likesVersion + 1 " +
+           "WHERE c.id = :id AND c.likesCount > 0")
+    int decrementLikesCount(@Param("id") Long id);
+}
@@ -0,0 +1,17 @@
+package sanghun.project.howtouseai.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import sanghun.project.howtouseai.domain.CardTag;
+
+@Repository
+public interface CardTagRepository extends JpaRepository<CardTag, Long> {
+
+    // 카드 ID로 모든 태그 연결 삭제
+    @Modifying
+    @Query("DELETE FROM CardTag ct WHERE ct.card.id = :cardId")
+    int deleteByCardId(@Param("cardId") Long cardId);
+}
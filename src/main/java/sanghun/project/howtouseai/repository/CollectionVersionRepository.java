@@ -0,0 +1,24 @@
+package sanghun.project.howtouseai.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import sanghun.project.howtouseai.domain.CollectionVersion;
+
+import java.util.Optional;
+
+@Repository
+public interface CollectionVersionRepository extends JpaRepository<CollectionVersion, String> {
+
+    @Query("SELECT cv.version FROM CollectionVersion cv WHERE cv.name = :name")
+    Optional<Long> findVersionByName(@Param("name") String name);
+
+    // 행이 없으면 1로 생성, 있으면 원자적으로 증가
+    @Modifying
+    @Query(value = "INSERT INTO collection_version (name, version) VALUES (:name, 1) " +
+                   "ON DUPLICATE KEY UPDATE version = version + 1",
+           nativeQuery = true)
+    int increment(@Param("name") String name);
+}
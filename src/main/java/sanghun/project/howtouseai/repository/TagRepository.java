@@ -0,0 +1,23 @@
+package sanghun.project.howtouseai.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import sanghun.project.howtouseai.domain.Tag;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    List<Tag> findByNameIn(Collection<String> names);
+
+    // name 유니크 제약을 이용한 조건부 추가: 이미 존재하면 0 반환
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO tag (name, created_at) VALUES (:name, :createdAt)", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("createdAt") LocalDateTime createdAt);
+}
@@ -0,0 +1,34 @@
+package sanghun.project.howtouseai.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import sanghun.project.howtouseai.domain.UserIdentity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserIdentityRepository extends JpaRepository<UserIdentity, Long> {
+
+    Optional<UserIdentity> findByUuid(String uuid);
+
+    // 다른 트랜잭션이 방금 커밋한 행도 보이도록 잠금 읽기 (INSERT IGNORE 가 무시된 경우에 사용)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ui FROM UserIdentity ui WHERE ui.uuid = :uuid")
+    Optional<UserIdentity> findByUuidForUpdate(@Param("uuid") String uuid);
+
+    List<UserIdentity> findByIdIn(Collection<Long> ids);
+
+    // uuid 유니크 제약을 이용한 조건부 추가: 이미 존재하면 0 반환
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_identity (uuid, created_at) VALUES (:uuid, :createdAt)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("uuid") String uuid, @Param("createdAt") LocalDateTime createdAt);
+}
@@ -0,0 +1,71 @@
+package sanghun.project.howtouseai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import sanghun.project.howtouseai.dto.BulkImportResponse;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 명령행에서 파일을 일괄로 가져옵니다. 마이그레이션 러너들이 끝난 뒤 실행됩니다.
+ * <pre>
+ * java -jar howtouseai.jar --bulk-import=cards.ndjson,likes.csv [--bulk-import.exit]
+ * </pre>
+ * 형식은 확장자(.ndjson/.jsonl/.csv)로 정하며, --bulk-import.exit 를 주면 가져온 뒤 서버를 띄우지 않고 종료합니다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class BulkImportRunner implements ApplicationRunner {
+
+    private static final String IMPORT_OPTION = "bulk-import";
+    private static final String EXIT_OPTION = "bulk-import.exit";
+
+    private final BulkImportService bulkImportService;
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        List<String> values = args.getOptionValues(IMPORT_OPTION);
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        int failures = 0;
+        for (String value : values) {
+            for (String file : value.split(",")) {
+                if (!file.isBlank() && !importFile(Path.of(file.trim()))) {
+                    failures++;
+                }
+            }
+        }
+        if (args.containsOption(EXIT_OPTION)) {
+            int exitCode = failures == 0 ? 0 : 1;
+            System.exit(SpringApplication.exit(applicationContext, () -> exitCode));
+        }
+    }
+
+    private boolean importFile(Path path) throws IOException {
+        BulkImportService.Format format = BulkImportService.Format.fromFilename(path.getFileName().toString());
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            BulkImportResponse result = bulkImportService.importRecords(in, format);
+            log.info("파일 가져오기 완료: file={}, cards={}, likes={}, duplicates={}, rejected={}, elapsedMs={}",
+                    path, result.getCardsImported(), result.getLikesImported(), result.getDuplicatesSkipped(),
+                    result.getRejected(), result.getElapsedMillis());
+            result.getErrors().forEach(error -> log.warn("가져오기 거부: file={}, {}", path, error));
+            return result.getRejected() == 0;
+        }
+    }
+}
@@ -0,0 +1,548 @@
+package sanghun.project.howtouseai.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import sanghun.project.howtouseai.domain.Card;
+import sanghun.project.howtouseai.domain.CollectionVersion;
+import sanghun.project.howtouseai.dto.BulkImportRecord;
+import sanghun.project.howtouseai.dto.BulkImportResponse;
+import sanghun.project.howtouseai.event.BulkImportCompletedEvent;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * NDJSON / CSV 로 된 카드와 좋아요를 일괄로 가져옵니다. (관리자 API 와 {@link BulkImportRunner} 에서 사용)
+ * <p>
+ * 카드 생성 API 는 행마다 카테고리 조회, 중복 제목 확인, IDENTITY INSERT 를 수행해 대량 이관에는 느립니다.
+ * 여기서는 시작 시 카테고리 ID 와 기존 카드의 (title, 작성자 UUID) 를 메모리에 올려 검증·중복 제거를 DB 조회 없이 하고,
+ * 청크 단위 트랜잭션 안에서 다중 행 INSERT 로 사용자, 카드, 태그, 좋아요를 기록합니다.
+ * 실패하면 이전 청크까지는 반영된 상태로 남지만, 중복 제거 덕분에 같은 파일로 다시 실행하면 나머지만 가져옵니다.
+ * 끝나면 {@link BulkImportCompletedEvent} 를 발행해 메모리 인덱스를 재구성합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkImportService {
+
+    public enum Format {
+        NDJSON, CSV;
+
+        public static Format fromContentType(String contentType) {
+            String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+            if (type.startsWith("text/csv")) {
+                return CSV;
+            }
+            if (type.startsWith("application/x-ndjson") || type.startsWith("application/jsonl")
+                    || type.startsWith("application/json")) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("지원하지 않는 형식입니다 (text/csv 또는 application/x-ndjson): "
+                    + contentType);
+        }
+
+        public static Format fromFilename(String filename) {
+            String name = filename.toLowerCase(Locale.ROOT);
+            if (name.endsWith(".csv")) {
+                return CSV;
+            }
+            if (name.endsWith(".ndjson") || name.endsWith(".jsonl") || name.endsWith(".json")) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("확장자로 형식을 알 수 없습니다 (.csv, .ndjson, .jsonl): " + filename);
+        }
+    }
+
+    private static final String CARD_INSERT_SQL = "INSERT INTO card (owner_id, title, category_id, tags, situation, " +
+            "usage_examples, content, excerpt, created_at, likes_count, likes_version, version) VALUES ";
+    private static final String CARD_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 0)";
+    private static final String USER_INSERT_SQL = "INSERT IGNORE INTO user_identity (uuid, created_at) VALUES ";
+    private static final String TAG_INSERT_SQL = "INSERT IGNORE INTO tag (name, created_at) VALUES ";
+    private static final String CARD_TAG_INSERT_SQL = "INSERT IGNORE INTO card_tag (card_id, tag_id, position) VALUES ";
+    private static final String LIKE_INSERT_SQL = "INSERT IGNORE INTO card_like (card_id, user_id, created_at) VALUES ";
+    private static final String EXISTING_CARDS_SQL =
+            "SELECT c.id, c.title, u.uuid FROM card c LEFT JOIN user_identity u ON u.id = c.owner_id";
+
+    private static final int ROWS_PER_STATEMENT = 500;
+    private static final int FETCH_SIZE = 10_000;
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_UUID_LENGTH = 255;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ContentVersionService contentVersionService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 메모리 중복 제거 상태가 서로 어긋나지 않도록 한 번에 하나만 실행
+    private final ReentrantLock importLock = new ReentrantLock();
+
+    @Value("${bulk-import.chunk-size:5000}")
+    private int chunkSize;
+
+    /**
+     * 입력 스트림의 카드와 좋아요를 가져옵니다.
+     *
+     * @param in     NDJSON 또는 CSV (UTF-8)
+     * @param format 입력 형식
+     * @return 가져온 건수와 건너뛴/거부된 행 정보
+     * @throws IllegalStateException 다른 가져오기가 진행 중인 경우
+     */
+    public BulkImportResponse importRecords(InputStream in, Format format) throws IOException {
+        if (!importLock.tryLock()) {
+            throw new IllegalStateException("다른 일괄 가져오기가 진행 중입니다.");
+        }
+        try {
+            long started = System.nanoTime();
+            ImportRun run = new ImportRun();
+            try {
+                run.loadExisting();
+                log.info("일괄 가져오기 시작: format={}, existingCards={}, categories={}",
+                        format, run.knownCardIds.size(), run.categoryIds.size());
+
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+                if (format == Format.CSV) {
+                    readCsv(reader, run);
+                } else {
+                    readNdjson(reader, run);
+                }
+                run.flush();
+            } finally {
+                // 중간 청크가 실패해도 이미 커밋된 청크는 캐시와 인덱스에 알려야 함
+                if (run.cardsImported > 0 || run.likesImported > 0) {
+                    contentVersionService.bump(CollectionVersion.CARDS);
+                    eventPublisher.publishEvent(new BulkImportCompletedEvent(run.cardsImported, run.likesImported));
+                }
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            log.info("일괄 가져오기 완료: cards={}, likes={}, duplicates={}, rejected={}, elapsedMs={}",
+                    run.cardsImported, run.likesImported, run.duplicatesSkipped, run.rejected, elapsedMillis);
+            return BulkImportResponse.builder()
+                    .cardsImported(run.cardsImported)
+                    .likesImported(run.likesImported)
+                    .duplicatesSkipped(run.duplicatesSkipped)
+                    .rejected(run.rejected)
+                    .errors(run.errors)
+                    .elapsedMillis(elapsedMillis)
+                    .build();
+        } finally {
+            importLock.unlock();
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, ImportRun run) throws IOException {
+        ObjectReader recordReader = objectMapper.readerFor(BulkImportRecord.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            BulkImportRecord record;
+            try {
+                record = recordReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                run.reject(lineNumber, "JSON 형식 오류: " + e.getOriginalMessage());
+                continue;
+            }
+            run.accept(lineNumber, record);
+        }
+    }
+
+    private void readCsv(BufferedReader reader, ImportRun run) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().replace("\uFEFF", ""), i);
+        }
+
+        long rowNumber = 1;
+        List<String> row;
+        while ((row = csv.next()) != null) {
+            rowNumber++;
+            if (row.size() == 1 && row.get(0).isBlank()) {
+                continue;
+            }
+            BulkImportRecord record;
+            try {
+                record = BulkImportRecord.builder()
+                        .type(column(row, columns, "type"))
+                        .title(column(row, columns, "title"))
+                        .categoryId(longColumn(row, columns, "categoryId"))
+                        .tags(column(row, columns, "tags"))
+                        .situation(column(row, columns, "situation"))
+                        .usageExamples(column(row, columns, "usageExamples"))
+                        .content(column(row, columns, "content"))
+                        .uuid(column(row, columns, "uuid"))
+                        .cardId(longColumn(row, columns, "cardId"))
+                        .cardUuid(column(row, columns, "cardUuid"))
+                        .build();
+            } catch (NumberFormatException e) {
+                run.reject(rowNumber, "숫자 형식 오류: " + e.getMessage());
+                continue;
+            }
+            run.accept(rowNumber, record);
+        }
+    }
+
+    private static String column(List<String> row, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= row.size() || row.get(index).isEmpty()) {
+            return null;
+        }
+        return row.get(index);
+    }
+
+    private static Long longColumn(List<String> row, Map<String, Integer> columns, String name) {
+        String value = column(row, columns, name);
+        return value == null || value.isBlank() ? null : Long.valueOf(value.trim());
+    }
+
+    private static String cardKey(String title, String uuid) {
+        return uuid + '\u0000' + title;
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    /**
+     * 다중 행 INSERT 로 기록하고 실제로 추가된 행 수를 반환합니다.
+     */
+    private int insertRows(String insertSql, String rowPlaceholder, List<Object[]> rows) {
+        int inserted = 0;
+        for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+            List<Object[]> slice = rows.subList(from, Math.min(from + ROWS_PER_STATEMENT, rows.size()));
+            inserted += jdbcTemplate.update(multiRowSql(insertSql, rowPlaceholder, slice.size()), flatten(slice));
+        }
+        return inserted;
+    }
+
+    /**
+     * 다중 행 INSERT 로 기록하고 행 순서대로 생성된 ID 를 반환합니다.
+     * MySQL 은 한 문장의 단순 INSERT 에 연속된 AUTO_INCREMENT 값을 할당하므로 드라이버가 모든 키를 돌려줍니다.
+     */
+    private List<Long> insertReturningKeys(String insertSql, String rowPlaceholder, List<Object[]> rows) {
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+            List<Object[]> slice = rows.subList(from, Math.min(from + ROWS_PER_STATEMENT, rows.size()));
+            String sql = multiRowSql(insertSql, rowPlaceholder, slice.size());
+            Object[] args = flatten(slice);
+            GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+                new ArgumentPreparedStatementSetter(args).setValues(statement);
+                return statement;
+            }, keyHolder);
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            if (keys.size() != slice.size()) {
+                throw new IllegalStateException(
+                        String.format("생성된 키 수가 행 수와 다릅니다: rows=%d, keys=%d", slice.size(), keys.size()));
+            }
+            keys.forEach(key -> ids.add(((Number) key.values().iterator().next()).longValue()));
+        }
+        return ids;
+    }
+
+    private static String multiRowSql(String insertSql, String rowPlaceholder, int rows) {
+        return insertSql + String.join(", ", Collections.nCopies(rows, rowPlaceholder));
+    }
+
+    private static Object[] flatten(List<Object[]> rows) {
+        List<Object> args = new ArrayList<>(rows.size() * rows.get(0).length);
+        rows.forEach(row -> Collections.addAll(args, row));
+        return args.toArray();
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private record PendingCard(String key, String ownerUuid, BulkImportRecord record) {
+    }
+
+    private record PendingLike(Long cardId, String cardKey, String userUuid) {
+    }
+
+    /**
+     * 한 번의 가져오기 동안 유지하는 메모리 상태 (검증용 맵, 대기 중인 청크, 집계)
+     */
+    private class ImportRun {
+
+        private final Set<Long> categoryIds = new HashSet<>();
+        private final Set<Long> knownCardIds = new HashSet<>();
+        // (title, 작성자 UUID) -> 카드 ID. 현재 청크에서 대기 중인 카드는 값이 null
+        private final Map<String, Long> cardIdsByKey = new HashMap<>();
+        private final Map<String, Long> userIds = new HashMap<>();
+        private final Map<String, Long> tagIds = new HashMap<>();
+
+        private final List<PendingCard> pendingCards = new ArrayList<>();
+        private final List<PendingLike> pendingLikes = new ArrayList<>();
+
+        private long cardsImported;
+        private long likesImported;
+        private long duplicatesSkipped;
+        private long rejected;
+        private final List<String> errors = new ArrayList<>();
+
+        void loadExisting() {
+            categoryIds.addAll(jdbcTemplate.queryForList("SELECT id FROM category", Long.class));
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(EXISTING_CARDS_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(FETCH_SIZE);
+                return statement;
+            }, (ResultSet rs) -> {
+                long cardId = rs.getLong("id");
+                knownCardIds.add(cardId);
+                String uuid = rs.getString("uuid");
+                if (uuid != null) {
+                    cardIdsByKey.put(cardKey(rs.getString("title"), uuid), cardId);
+                }
+            });
+        }
+
+        void reject(long lineNumber, String reason) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(lineNumber + "행: " + reason);
+            }
+        }
+
+        void accept(long lineNumber, BulkImportRecord record) {
+            if (record.isLike()) {
+                acceptLike(lineNumber, record);
+            } else if (record.getType() == null || BulkImportRecord.TYPE_CARD.equalsIgnoreCase(record.getType())) {
+                acceptCard(lineNumber, record);
+            } else {
+                reject(lineNumber, "알 수 없는 type: " + record.getType());
+            }
+            if (pendingCards.size() + pendingLikes.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        private void acceptCard(long lineNumber, BulkImportRecord record) {
+            String title = trimToNull(record.getTitle());
+            String uuid = trimToNull(record.getUuid());
+            if (title == null || title.length() > MAX_TITLE_LENGTH) {
+                reject(lineNumber, "카드 제목은 필수이며 255자 이하여야 합니다.");
+                return;
+            }
+            if (record.getCategoryId() == null || !categoryIds.contains(record.getCategoryId())) {
+                reject(lineNumber, "존재하지 않는 카테고리입니다: " + record.getCategoryId());
+                return;
+            }
+            if (uuid == null || uuid.length() > MAX_UUID_LENGTH) {
+                reject(lineNumber, "작성자 UUID는 필수입니다.");
+                return;
+            }
+            String key = cardKey(title, uuid);
+            if (cardIdsByKey.containsKey(key)) {
+                duplicatesSkipped++;
+                return;
+            }
+            cardIdsByKey.put(key, null);
+            pendingCards.add(new PendingCard(key, uuid, BulkImportRecord.builder()
+                    .title(title)
+                    .categoryId(record.getCategoryId())
+                    .tags(record.getTags())
+                    .situation(record.getSituation())
+                    .usageExamples(record.getUsageExamples())
+                    .content(record.getContent())
+                    .build()));
+        }
+
+        private void acceptLike(long lineNumber, BulkImportRecord record) {
+            String uuid = trimToNull(record.getUuid());
+            if (uuid == null || uuid.length() > MAX_UUID_LENGTH) {
+                reject(lineNumber, "좋아요 사용자 UUID는 필수입니다.");
+                return;
+            }
+            if (record.getCardId() != null) {
+                if (!knownCardIds.contains(record.getCardId())) {
+                    reject(lineNumber, "좋아요 대상 카드를 찾을 수 없습니다: ID " + record.getCardId());
+                    return;
+                }
+                pendingLikes.add(new PendingLike(record.getCardId(), null, uuid));
+                return;
+            }
+            String title = trimToNull(record.getTitle());
+            String cardUuid = trimToNull(record.getCardUuid());
+            String key = title == null || cardUuid == null ? null : cardKey(title, cardUuid);
+            if (key == null || !cardIdsByKey.containsKey(key)) {
+                reject(lineNumber, "좋아요 대상 카드를 찾을 수 없습니다 (cardId 또는 title + cardUuid 필요)");
+                return;
+            }
+            pendingLikes.add(new PendingLike(null, key, uuid));
+        }
+
+        void flush() {
+            if (pendingCards.isEmpty() && pendingLikes.isEmpty()) {
+                return;
+            }
+            long cardsBefore = cardsImported;
+            long likesBefore = likesImported;
+            long duplicatesBefore = duplicatesSkipped;
+            try {
+                transactionTemplate.executeWithoutResult(status -> writeChunk());
+            } catch (RuntimeException e) {
+                // 롤백된 청크는 가져온 건수에서 제외 (커밋된 청크만 알림)
+                cardsImported = cardsBefore;
+                likesImported = likesBefore;
+                duplicatesSkipped = duplicatesBefore;
+                log.error("일괄 가져오기 청크 실패: cards={}, likes={}, committedCards={}, committedLikes={}",
+                        pendingCards.size(), pendingLikes.size(), cardsImported, likesImported, e);
+                throw e;
+            }
+            pendingCards.clear();
+            pendingLikes.clear();
+        }
+
+        private void writeChunk() {
+            Set<String> uuids = new LinkedHashSet<>();
+            pendingCards.forEach(card -> uuids.add(card.ownerUuid()));
+            pendingLikes.forEach(like -> uuids.add(like.userUuid()));
+            resolveUsers(uuids);
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            if (!pendingCards.isEmpty()) {
+                List<Object[]> rows = new ArrayList<>(pendingCards.size());
+                for (PendingCard card : pendingCards) {
+                    BulkImportRecord record = card.record();
+                    rows.add(new Object[]{userIds.get(card.ownerUuid()), record.getTitle(), record.getCategoryId(),
+                            record.getTags(), record.getSituation(), record.getUsageExamples(), record.getContent(),
+                            Card.excerptOf(record.getContent()), now});
+                }
+                List<Long> ids = insertReturningKeys(CARD_INSERT_SQL, CARD_ROW, rows);
+                for (int i = 0; i < ids.size(); i++) {
+                    cardIdsByKey.put(pendingCards.get(i).key(), ids.get(i));
+                    knownCardIds.add(ids.get(i));
+                }
+                insertTags(ids);
+                cardsImported += ids.size();
+            }
+
+            if (!pendingLikes.isEmpty()) {
+                List<Object[]> rows = new ArrayList<>(pendingLikes.size());
+                Set<Long> touchedCardIds = new LinkedHashSet<>();
+                for (PendingLike like : pendingLikes) {
+                    Long cardId = like.cardId() != null ? like.cardId() : cardIdsByKey.get(like.cardKey());
+                    rows.add(new Object[]{cardId, userIds.get(like.userUuid()), now});
+                    touchedCardIds.add(cardId);
+                }
+                int inserted = insertRows(LIKE_INSERT_SQL, "(?, ?, ?)", rows);
+                likesImported += inserted;
+                duplicatesSkipped += rows.size() - inserted;
+                recountLikes(touchedCardIds);
+            }
+        }
+
+        private void resolveUsers(Collection<String> uuids) {
+            List<String> missing = uuids.stream().filter(uuid -> !userIds.containsKey(uuid)).toList();
+            if (missing.isEmpty()) {
+                return;
+            }
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            insertRows(USER_INSERT_SQL, "(?, ?)", missing.stream().map(uuid -> new Object[]{uuid, now}).toList());
+            for (int from = 0; from < missing.size(); from += ROWS_PER_STATEMENT) {
+                List<String> slice = missing.subList(from, Math.min(from + ROWS_PER_STATEMENT, missing.size()));
+                jdbcTemplate.query("SELECT id, uuid FROM user_identity WHERE uuid IN (" + placeholders(slice.size())
+                        + ")", (ResultSet rs) -> {
+                    userIds.put(rs.getString("uuid"), rs.getLong("id"));
+                }, slice.toArray());
+            }
+        }
+
+        // 카드 생성 시 TagService.replaceTags 가 만드는 것과 같은 tag / card_tag 연결
+        private void insertTags(List<Long> cardIds) {
+            List<List<String>> namesByCard = new ArrayList<>(pendingCards.size());
+            Set<String> missing = new LinkedHashSet<>();
+            for (PendingCard card : pendingCards) {
+                List<String> names = TagService.split(card.record().getTags());
+                namesByCard.add(names);
+                names.stream().filter(name -> !tagIds.containsKey(name.toLowerCase(Locale.ROOT))).forEach(missing::add);
+            }
+            if (!missing.isEmpty()) {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                List<String> names = new ArrayList<>(missing);
+                insertRows(TAG_INSERT_SQL, "(?, ?)", names.stream().map(name -> new Object[]{name, now}).toList());
+                // DB 콜레이션이 대소문자를 구분하지 않으므로 소문자 키로 매칭
+                for (int from = 0; from < names.size(); from += ROWS_PER_STATEMENT) {
+                    List<String> slice = names.subList(from, Math.min(from + ROWS_PER_STATEMENT, names.size()));
+                    jdbcTemplate.query("SELECT id, name FROM tag WHERE name IN (" + placeholders(slice.size()) + ")",
+                            (ResultSet rs) -> {
+                        tagIds.putIfAbsent(rs.getString("name").toLowerCase(Locale.ROOT), rs.getLong("id"));
+                    }, slice.toArray());
+                }
+            }
+
+            List<Object[]> links = new ArrayList<>();
+            for (int i = 0; i < cardIds.size(); i++) {
+                List<String> names = namesByCard.get(i);
+                for (int position = 0; position < names.size(); position++) {
+                    Long tagId = tagIds.get(names.get(position).toLowerCase(Locale.ROOT));
+                    if (tagId != null) {
+                        links.add(new Object[]{cardIds.get(i), tagId, position});
+                    }
+                }
+            }
+            if (!links.isEmpty()) {
+                insertRows(CARD_TAG_INSERT_SQL, "(?, ?, ?)", links);
+            }
+        }
+
+        private void recountLikes(Collection<Long> cardIds) {
+            List<Long> ids = new ArrayList<>(cardIds);
+            for (int from = 0; from < ids.size(); from += ROWS_PER_STATEMENT) {
+                List<Long> slice = ids.subList(from, Math.min(from + ROWS_PER_STATEMENT, ids.size()));
+                jdbcTemplate.update("UPDATE card SET likes_count = " +
+                        "(SELECT COUNT(*) FROM card_like cl WHERE cl.card_id = card.id), " +
+                        "likes_version = likes_version + 1 WHERE id IN (" + placeholders(slice.size()) + ")",
+                        slice.toArray());
+            }
+        }
+    }
+}
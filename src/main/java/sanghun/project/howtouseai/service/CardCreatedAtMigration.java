@@ -0,0 +1,50 @@
+package sanghun.project.howtouseai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * created_at 이 비어 있는 레거시 카드를 채우고 컬럼을 NOT NULL 로 바꾸는 일회성 마이그레이션.
+ * 커서 페이지네이션은 (created_at, id) 를 정렬 키로 쓰므로 NULL 이 있으면 커서를 만들 수 없습니다.
+ * 컬럼이 아직 NULL 을 허용할 때만 실행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CardCreatedAtMigration implements ApplicationRunner {
+
+    // 최신순에서 NULL 이 맨 뒤에 오던 기존 정렬을 유지하도록 가장 이른 시각으로 채움
+    private static final LocalDateTime UNKNOWN_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!isNullable("card", "created_at")) {
+            return;
+        }
+        int rows = jdbcTemplate.update("UPDATE card SET created_at = ? WHERE created_at IS NULL",
+                Timestamp.valueOf(UNKNOWN_CREATED_AT));
+        jdbcTemplate.execute("ALTER TABLE card MODIFY created_at DATETIME(6) NOT NULL");
+        log.info("카드 생성일 마이그레이션 완료: backfilledRows={}", rows);
+    }
+
+    private boolean isNullable(String table, String column) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, table, column)) {
+                return columns.next() && "YES".equals(columns.getString("IS_NULLABLE"));
+            }
+        }));
+    }
+}
@@ -0,0 +1,43 @@
+package sanghun.project.howtouseai.service;
+
+import sanghun.project.howtouseai.dto.CardSortType;
+import sanghun.project.howtouseai.dto.CardSummaryDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션용 연속 토큰.
+ * 마지막으로 반환한 카드의 정렬 키와 ID 를 담아 다음 페이지를 seek 조건으로 조회할 수 있게 합니다.
+ */
+record CardCursor(CardSortType sort, long likesCount, LocalDateTime createdAt, long id) {
+
+    private static final String DELIMITER = "|";
+
+    static CardCursor of(CardSummaryDto card, CardSortType sort) {
+        return new CardCursor(sort, card.getLikesCount(), card.getCreatedAt(), card.getId());
+    }
+
+    String encode() {
+        String raw = String.join(DELIMITER, sort.name(), Long.toString(likesCount), createdAt.toString(),
+                Long.toString(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static CardCursor decode(String token, CardSortType expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            CardCursor cursor = new CardCursor(CardSortType.valueOf(parts[0]), Long.parseLong(parts[1]),
+                    LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+            if (cursor.sort() != expectedSort) {
+                throw new IllegalArgumentException("정렬 기준이 다른 커서입니다.");
+            }
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package sanghun.project.howtouseai.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sanghun.project.howtouseai.dto.CacheStatsResponse;
+import sanghun.project.howtouseai.dto.CardResponse;
+import sanghun.project.howtouseai.dto.CardVersionDto;
+import sanghun.project.howtouseai.event.BulkImportCompletedEvent;
+import sanghun.project.howtouseai.event.CardDeletedEvent;
+import sanghun.project.howtouseai.event.CardLikeToggledEvent;
+import sanghun.project.howtouseai.event.CardUpdatedEvent;
+import sanghun.project.howtouseai.event.CategoryChangedEvent;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 카드 상세 응답의 read-through 캐시 (용량 기준 LRU + single-flight 로딩)
+ * <p>
+ * 값은 사용자와 무관한 상세 정보만 담고, 사용자별 좋아요 여부는 조회 시 덧씌웁니다.
+ * 같은 카드에 대한 동시 미스는 하나의 DB 로딩으로 합쳐집니다.
+ * 값에는 로딩한 카드의 (version, likes_version) 이 들어 있으며, 호출자가 DB 에서 확인한 버전과 다르면
+ * (다른 노드에서 수정/좋아요가 일어나 이벤트를 받지 못한 경우) 미스로 보고 다시 로딩합니다.
+ * 카드 수정/삭제/좋아요 토글이 커밋되면 해당 카드만 무효화하고, 카테고리가 바뀌면 전체를 비웁니다.
+ */
+@Slf4j
+@Component
+public class CardDetailCache {
+
+    private static final String NAME = "cardDetail";
+
+    private final long maxWeightBytes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // accessOrder=true: 조회할 때마다 가장 최근 위치로 이동 (LRU)
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long weightBytes;
+
+    // 카드별 진행 중인 로딩. 무효화는 해당 카드의 로딩을 여기서 빼므로, 빠진 로딩의 결과는 저장하지 않음
+    private final ConcurrentHashMap<Long, CompletableFuture<CardResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public CardDetailCache(@Value("${cards.detail-cache.max-bytes:33554432}") long maxWeightBytes) {
+        this.maxWeightBytes = maxWeightBytes;
+    }
+
+    /**
+     * 캐시된 카드 상세를 반환하고, 없으면 loader 로 한 번만 로딩합니다.
+     *
+     * @param cardId   카드 ID
+     * @param expected DB 에서 조회한 현재 카드 버전 (ETag 계산에 쓴 값). 캐시 값의 버전이 다르면 미스로 처리
+     * @param loader   캐시 미스 시 DB 에서 상세를 만드는 함수 (예외는 대기 중인 호출자 모두에게 전파)
+     * @return 사용자와 무관한 카드 상세 응답
+     */
+    public CardResponse get(Long cardId, CardVersionDto expected, Function<Long, CardResponse> loader) {
+        CardResponse cached = lookup(cardId);
+        if (cached != null && isVersion(cached, expected)) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        CompletableFuture<CardResponse> mine = new CompletableFuture<>();
+        CompletableFuture<CardResponse> existing = inFlight.putIfAbsent(cardId, mine);
+        if (existing != null) {
+            CardResponse shared = await(existing);
+            if (isVersion(shared, expected)) {
+                return shared;
+            }
+            // 확인한 버전보다 먼저 시작된 로딩이면 결과가 오래되었을 수 있으므로 직접 로딩 (저장은 진행 중인 쪽에 맡김)
+            loads.increment();
+            return loader.apply(cardId);
+        }
+
+        try {
+            loads.increment();
+            CardResponse loaded = loader.apply(cardId);
+            store(cardId, loaded, mine);
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cardId, mine);
+        }
+    }
+
+    public void invalidate(Long cardId) {
+        lock.lock();
+        try {
+            // 진행 중인 로딩은 무효화 이전 데이터를 읽었을 수 있으므로 저장되지 않게 함 (다른 카드의 로딩은 영향 없음)
+            inFlight.remove(cardId);
+            Entry removed = entries.remove(cardId);
+            if (removed != null) {
+                weightBytes -= removed.weight();
+                invalidations.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            inFlight.clear();
+            invalidations.add(entries.size());
+            entries.clear();
+            weightBytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public CacheStatsResponse stats() {
+        lock.lock();
+        try {
+            return CacheStatsResponse.builder()
+                    .name(NAME)
+                    .hits(hits.sum())
+                    .misses(misses.sum())
+                    .loads(loads.sum())
+                    .evictions(evictions.sum())
+                    .invalidations(invalidations.sum())
+                    .entries(entries.size())
+                    .weightBytes(weightBytes)
+                    .maxWeightBytes(maxWeightBytes)
+                    .build();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBulkImportCompleted(BulkImportCompletedEvent event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCardUpdated(CardUpdatedEvent event) {
+        invalidate(event.card().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCardDeleted(CardDeletedEvent event) {
+        invalidate(event.cardId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCardLikeToggled(CardLikeToggledEvent event) {
+        invalidate(event.cardId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        invalidateAll();
+    }
+
+    private static boolean isVersion(CardResponse value, CardVersionDto expected) {
+        return Objects.equals(value.getVersion(), expected.getVersion())
+                && Objects.equals(value.getLikesVersion(), expected.getLikesVersion());
+    }
+
+    private CardResponse lookup(Long cardId) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(cardId);
+            return entry == null ? null : entry.value();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 로딩 결과를 저장합니다. 로딩 중 이 카드가 무효화되었다면 (inFlight 에 자신의 로딩이 없으면) 저장하지 않습니다.
+     * 확인과 저장을 무효화와 같은 락 안에서 수행해 그 사이에 무효화가 끼어들지 못하게 합니다.
+     */
+    private void store(Long cardId, CardResponse value, CompletableFuture<CardResponse> loading) {
+        long weight = weigh(value);
+        if (weight > maxWeightBytes) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (inFlight.get(cardId) != loading) {
+                return;
+            }
+            Entry previous = entries.put(cardId, new Entry(value, weight));
+            weightBytes += weight - (previous == null ? 0 : previous.weight());
+            Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+            while (weightBytes > maxWeightBytes && eldest.hasNext()) {
+                weightBytes -= eldest.next().getValue().weight();
+                eldest.remove();
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static CardResponse await(CompletableFuture<CardResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 응답이 차지하는 힙 크기를 대략 추정합니다. (문자열은 UTF-16 기준 2바이트/문자, 객체 헤더 등은 고정값)
+     */
+    private static long weigh(CardResponse value) {
+        long weight = 256;
+        weight += chars(value.getTitle()) + chars(value.getTags()) + chars(value.getSituation())
+                + chars(value.getUsageExamples()) + chars(value.getContent()) + chars(value.getUuid());
+        weight += listChars(value.getTagList());
+        return weight;
+    }
+
+    private static long chars(String value) {
+        return value == null ? 0 : 40L + 2L * value.length();
+    }
+
+    private static long listChars(List<String> values) {
+        if (values == null) {
+            return 0;
+        }
+        long weight = 16L + 8L * values.size();
+        for (String value : values) {
+            weight += chars(value);
+        }
+        return weight;
+    }
+
+    private record Entry(CardResponse value, long weight) {
+    }
+}
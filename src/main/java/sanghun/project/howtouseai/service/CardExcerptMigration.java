@@ -0,0 +1,58 @@
+package sanghun.project.howtouseai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import sanghun.project.howtouseai.domain.Card;
+import sanghun.project.howtouseai.domain.CollectionVersion;
+
+import java.util.List;
+
+/**
+ * excerpt 컬럼 추가 이전 카드의 본문 요약을 채우는 마이그레이션.
+ * 요약이 비어 있는 카드만 ID 순으로 나눠 처리하므로 반복 실행해도 안전합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CardExcerptMigration implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String PENDING_SQL =
+            "SELECT id, content FROM card WHERE excerpt IS NULL AND content IS NOT NULL AND id > ? " +
+            "ORDER BY id LIMIT " + BATCH_SIZE;
+    // 타일 캐시가 카드 버전으로 내용 변경을 감지하므로 버전도 올림
+    private static final String UPDATE_SQL = "UPDATE card SET excerpt = ?, version = version + 1 WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ContentVersionService contentVersionService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long lastId = 0;
+        int migrated = 0;
+        while (true) {
+            // 본문 TEXT 를 배치 단위로만 읽어 전체를 한 번에 메모리에 올리지 않음
+            List<Object[]> rows = jdbcTemplate.query(PENDING_SQL,
+                    (rs, rowNum) -> new Object[]{Card.excerptOf(rs.getString("content")), rs.getLong("id")},
+                    lastId);
+            if (rows.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(
+                    status -> jdbcTemplate.batchUpdate(UPDATE_SQL, rows));
+            lastId = (Long) rows.get(rows.size() - 1)[1];
+            migrated += rows.size();
+        }
+        if (migrated > 0) {
+            // 목록 응답 내용이 달라지므로 목록 ETag 를 갱신
+            contentVersionService.bump(CollectionVersion.CARDS);
+            log.info("카드 요약 마이그레이션 완료: cards={}", migrated);
+        }
+    }
+}
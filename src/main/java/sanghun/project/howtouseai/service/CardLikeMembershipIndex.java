@@ -0,0 +1,208 @@
+package sanghun.project.howtouseai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sanghun.project.howtouseai.event.BulkImportCompletedEvent;
+import sanghun.project.howtouseai.event.CardDeletedEvent;
+import sanghun.project.howtouseai.event.CardLikeToggledEvent;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카드별 좋아요 사용자 집합을 메모리에 유지하는 인덱스입니다.
+ * <p>
+ * 사용자는 user_identity.id(BIGINT) 로 식별되며, 카드마다 정렬된 long 배열로 저장합니다.
+ * "이 사용자가 이 카드를 좋아요했는가"는 DB 조회 없이 이진 탐색(O(log n))으로 확인합니다.
+ * 배열은 변경 시 복사(copy-on-write)되므로 읽기는 락 없이 수행됩니다.
+ * 시작 시 card_like 에서 구성하고, 이후에는 CardLikeService 가 발행하는 좋아요 이벤트로 갱신합니다.
+ * 좋아요 이벤트는 커밋 후 순서 없이 도착하므로, (카드, 사용자)별로 이미 반영한 것보다 새 좋아요 버전의
+ * 이벤트만 반영합니다. 다른 사용자의 이벤트는 서로 덮어쓰지 않으므로 카드 단위가 아니라 사용자 단위로 비교합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CardLikeMembershipIndex {
+
+    private static final String LOAD_SQL = "SELECT card_id, user_id FROM card_like";
+    private static final int FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile ConcurrentHashMap<Long, SortedLongSet> likesByCardId = new ConcurrentHashMap<>();
+    private final IndexRebuildReplay<ConcurrentHashMap<Long, SortedLongSet>> rebuildReplay =
+            new IndexRebuildReplay<>(() -> likesByCardId);
+    // (카드, 사용자) -> 마지막으로 반영한 좋아요 버전. 재구성 시 비워 크기를 재구성 주기 동안의 토글 수로 제한
+    private final ConcurrentHashMap<LikeKey, Long> appliedLikesVersions = new ConcurrentHashMap<>();
+
+    public boolean isLiked(Long cardId, Long userId) {
+        SortedLongSet likes = likesByCardId.get(cardId);
+        return userId != null && likes != null && likes.contains(userId);
+    }
+
+    /**
+     * 주어진 카드들 중 사용자가 좋아요한 카드 ID 를 반환합니다.
+     */
+    public Set<Long> likedCardIds(Long userId, Collection<Long> cardIds) {
+        if (userId == null) {
+            return Collections.emptySet();
+        }
+        ConcurrentHashMap<Long, SortedLongSet> current = likesByCardId;
+        Set<Long> liked = new HashSet<>();
+        for (Long cardId : cardIds) {
+            SortedLongSet likes = current.get(cardId);
+            if (likes != null && likes.contains(userId)) {
+                liked.add(cardId);
+            }
+        }
+        return liked;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        ConcurrentHashMap<Long, SortedLongSet> rebuilt = rebuildReplay.rebuild(this::load, loaded -> {
+            likesByCardId = loaded;
+            appliedLikesVersions.clear();
+        });
+        log.info("좋아요 멤버십 인덱스 구성 완료: cards={}", rebuilt.size());
+    }
+
+    private ConcurrentHashMap<Long, SortedLongSet> load() {
+        Map<Long, LongList> loading = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(LOAD_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (ResultSet rs) -> {
+            loading.computeIfAbsent(rs.getLong("card_id"), id -> new LongList())
+                    .add(rs.getLong("user_id"));
+        });
+        ConcurrentHashMap<Long, SortedLongSet> loaded = new ConcurrentHashMap<>();
+        loading.forEach((cardId, userIds) -> loaded.put(cardId, SortedLongSet.of(userIds.toArray())));
+        return loaded;
+    }
+
+    // 다른 노드에서 발생한 좋아요를 반영하기 위한 주기적 재구성
+    @Scheduled(initialDelayString = "${likes.membership.rebuild-interval-ms:3600000}",
+               fixedDelayString = "${likes.membership.rebuild-interval-ms:3600000}")
+    public void rebuildPeriodically() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBulkImportCompleted(BulkImportCompletedEvent event) {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCardLikeToggled(CardLikeToggledEvent event) {
+        long userId = event.userId();
+        // 버전 비교와 반영을 묶어, 비교를 통과한 같은 사용자의 두 이벤트가 거꾸로 반영되지 않게 함
+        appliedLikesVersions.compute(new LikeKey(event.cardId(), userId), (key, applied) -> {
+            if (applied != null && applied >= event.likesVersion()) {
+                log.debug("이전 좋아요 이벤트 무시: cardId={}, userId={}, likesVersion={}, applied={}",
+                        key.cardId(), userId, event.likesVersion(), applied);
+                return applied;
+            }
+            if (event.liked()) {
+                rebuildReplay.apply(current -> current.compute(key.cardId(),
+                        (id, likes) -> likes == null ? SortedLongSet.of(new long[]{userId}) : likes.with(userId)));
+            } else {
+                rebuildReplay.apply(current -> current.computeIfPresent(key.cardId(),
+                        (id, likes) -> likes.without(userId)));
+            }
+            return event.likesVersion();
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCardDeleted(CardDeletedEvent event) {
+        rebuildReplay.apply(current -> current.remove(event.cardId()));
+    }
+
+    /**
+     * 정렬된 long 배열 기반의 불변 집합 (변경 시 새 배열을 만들어 교체)
+     */
+    private static final class SortedLongSet {
+
+        private final long[] values;
+
+        private SortedLongSet(long[] values) {
+            this.values = values;
+        }
+
+        static SortedLongSet of(long[] values) {
+            long[] sorted = Arrays.stream(values).sorted().distinct().toArray();
+            return new SortedLongSet(sorted);
+        }
+
+        boolean contains(long value) {
+            return Arrays.binarySearch(values, value) >= 0;
+        }
+
+        SortedLongSet with(long value) {
+            int index = Arrays.binarySearch(values, value);
+            if (index >= 0) {
+                return this;
+            }
+            int insertAt = -index - 1;
+            long[] added = new long[values.length + 1];
+            System.arraycopy(values, 0, added, 0, insertAt);
+            added[insertAt] = value;
+            System.arraycopy(values, insertAt, added, insertAt + 1, values.length - insertAt);
+            return new SortedLongSet(added);
+        }
+
+        SortedLongSet without(long value) {
+            int index = Arrays.binarySearch(values, value);
+            if (index < 0) {
+                return this;
+            }
+            if (values.length == 1) {
+                return null;
+            }
+            long[] removed = new long[values.length - 1];
+            System.arraycopy(values, 0, removed, 0, index);
+            System.arraycopy(values, index + 1, removed, index, values.length - index - 1);
+            return new SortedLongSet(removed);
+        }
+    }
+
+    private record LikeKey(long cardId, long userId) {
+    }
+
+    /**
+     * 구성 중에만 사용하는 박싱 없는 long 가변 배열
+     */
+    private static final class LongList {
+
+        private long[] values = new long[4];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
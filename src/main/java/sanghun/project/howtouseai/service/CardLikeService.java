@@ -1,76 +1,116 @@
 package sanghun.project.howtouseai.service;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import sanghun.project.howtouseai.domain.Card;
-import sanghun.project.howtouseai.domain.CardLike;
+import sanghun.project.howtouseai.event.CardLikeToggledEvent;
 import sanghun.project.howtouseai.exception.CardNotFoundException;
 import sanghun.project.howtouseai.exception.LikeAlreadyExistsException;
 import sanghun.project.howtouseai.exception.LikeNotFoundException;
 import sanghun.project.howtouseai.repository.CardLikeRepository;
 import sanghun.project.howtouseai.repository.CardRepository;
+import sanghun.project.howtouseai.dto.CardLikesDto;
 import sanghun.project.howtouseai.dto.LikeResponse;
 
-import java.util.List;
-import java.util.Optional;
+import java.time.LocalDateTime;
 
 @Slf4j
 @Service
+@Timed(value = "howtouseai.service", histogram = true)
 @RequiredArgsConstructor
 @Transactional
 public class CardLikeService {
 
     private final CardLikeRepository cardLikeRepository;
     private final CardRepository cardRepository;
+    private final UserIdentityService userIdentityService;
+    private final ObjectProvider<LikeWriteBuffer> likeWriteBuffer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
 
     /**
      * 특정 카드에 대한 사용자의 '좋아요' 상태를 토글합니다.
      * 이미 '좋아요'를 눌렀다면 취소하고, 누르지 않았다면 추가합니다.
+     * <p>
+     * JVM 락 대신 card_like(card_id, user_id) 유니크 제약과 조건부 INSERT/DELETE 로 정합성을 보장하므로
+     * 여러 노드에서 동시에 호출되어도 중복 좋아요가 생기지 않고, 서로 다른 카드의 토글은 서로를 막지 않습니다.
+     * 추가와 취소 모두 카드 행의 배타 락을 먼저 잡은 뒤 card_like 를 변경하여(card → card_like 순서),
+     * 외래 키 검사의 공유 락과 카운터 갱신의 배타 락이 교차하며 생기는 교착을 피합니다.
+     * 사용자 UUID 는 user_identity 의 정수 ID 로 변환해 저장합니다.
+     * write-behind 모드에서는 {@link LikeWriteBuffer} 에 위임하고 DB 반영은 배치로 처리합니다.
      *
      * @param cardId 카드 ID
      * @param uuid   사용자 UUID
      * @return 새로운 좋아요 상태와 총 좋아요 수를 담은 응답 DTO
      * @throws CardNotFoundException 해당 ID의 카드가 존재하지 않을 경우
      */
-    public synchronized LikeResponse toggleLike(Long cardId, String uuid) {
+    public LikeResponse toggleLike(Long cardId, String uuid) {
         log.info("좋아요 토글 요청: cardId={}, uuid={}", cardId, uuid);
 
-        if (!cardRepository.existsById(cardId)) {
+        LikeWriteBuffer buffer = likeWriteBuffer.getIfAvailable();
+        if (buffer != null) {
+            Long userId = userIdentityService.resolveOrCreate(uuid);
+            LikeWriteBuffer.Toggled toggled = buffer.toggle(cardId, userId);
+            LikeResponse response = toggled.response();
+            log.info("좋아요 토글 버퍼링 완료: cardId={}, liked={}, likesCount={}",
+                    cardId, response.isLiked(), response.getLikesCount());
+            eventPublisher.publishEvent(new CardLikeToggledEvent(cardId, userId, response.isLiked(),
+                    response.getLikesCount(), toggled.likesVersion()));
+            countToggle(response.isLiked(), "buffered");
+            return response;
+        }
+
+        // 카드 행 배타 락 획득 (카드 존재 확인 겸). 같은 카드의 토글은 여기서 직렬화됨
+        if (cardRepository.lockById(cardId).isEmpty()) {
             log.warn("존재하지 않는 카드에 좋아요 토글 시도: cardId={}", cardId);
             throw new CardNotFoundException("Card not found with id: " + cardId);
         }
 
-        List<CardLike> likes = cardLikeRepository.findByCard_Id(cardId);
-        Optional<CardLike> userLike = likes.stream()
-                                           .filter(like -> like.getUuid().equals(uuid))
-                                           .findFirst();
-
         boolean isLiked;
-        long newLikesCount;
+        // 식별자가 아직 없는 사용자는 좋아요 기록도 없으므로 취소 경로에서는 생성하지 않음
+        Long userId = userIdentityService.findId(uuid).orElse(null);
 
-        if (userLike.isPresent()) {
+        if (userId != null && cardLikeRepository.deleteByCardIdAndUserIdIfPresent(cardId, userId) > 0) {
             // 이미 좋아요 상태 -> 좋아요 취소
-            cardLikeRepository.delete(userLike.get());
+            cardRepository.decrementLikesCount(cardId);
             isLiked = false;
-            newLikesCount = likes.size() - 1;
             log.info("좋아요 취소 완료: cardId={}, uuid={}", cardId, uuid);
         } else {
             // 좋아요 아닌 상태 -> 좋아요 추가
-            Card card = Card.builder().id(cardId).build(); // 프록시 객체 사용
-            CardLike newLike = CardLike.builder().card(card).uuid(uuid).build();
-            cardLikeRepository.save(newLike);
+            if (userId == null) {
+                userId = userIdentityService.resolveOrCreate(uuid);
+            }
+            if (cardLikeRepository.insertIfAbsent(cardId, userId, LocalDateTime.now()) == 0) {
+                // 카드 락으로 직렬화되므로 정상적으로는 발생하지 않음 (수동 데이터 수정 등에 대비)
+                log.info("동시 요청으로 이미 추가된 좋아요: cardId={}, uuid={}", cardId, uuid);
+            } else {
+                cardRepository.incrementLikesCount(cardId);
+                log.info("좋아요 추가 완료: cardId={}, uuid={}", cardId, uuid);
+            }
             isLiked = true;
-            newLikesCount = likes.size() + 1;
-            log.info("좋아요 추가 완료: cardId={}, uuid={}", cardId, uuid);
         }
 
+        // 카드 행 락을 잡은 채 읽으므로 좋아요 수와 버전은 이 토글 직후의 값
+        CardLikesDto likes = cardRepository.findLikesById(cardId).orElse(new CardLikesDto(cardId, 0L, 0L));
+        long newLikesCount = likes.getLikesCount();
         log.info("좋아요 토글 후, 카드 ID {}의 총 좋아요 수: {}", cardId, newLikesCount);
+        eventPublisher.publishEvent(
+                new CardLikeToggledEvent(cardId, userId, isLiked, newLikesCount, likes.getLikesVersion()));
+        countToggle(isLiked, "direct");
 
         return LikeResponse.builder()
                 .liked(isLiked)
                 .likesCount(newLikesCount)
                 .build();
     }
-} 
\ No newline at end of file
+
+    private void countToggle(boolean liked, String mode) {
+        meterRegistry.counter("howtouseai.likes.toggles", "result", liked ? "liked" : "unliked", "mode", mode)
+                .increment();
+    }
+} 
@@ -0,0 +1,99 @@
+package sanghun.project.howtouseai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * card_like 의 (card_id, user_id) 유니크 제약을 보장하는 시작 시 마이그레이션.
+ * <p>
+ * 좋아요 토글과 일괄 가져오기는 이 제약과 INSERT IGNORE 로 중복을 막으므로, 제약이 없으면 좋아요가 두 번 세어집니다.
+ * 스키마 업데이트(ddl-auto=update)는 중복 데이터가 있으면 경고만 남기고 제약을 건너뛰므로, 제약이 없을 때
+ * 중복 좋아요를 가장 먼저 기록된 행(MIN(id))만 남기고 지운 뒤 좋아요 수를 다시 세고 제약을 추가합니다.
+ * 그래도 제약이 없으면 시작을 중단합니다. user_id 를 채우는 {@link UserIdentityMigration} 다음에 실행됩니다.
+ */
+@Slf4j
+@Component
+@Order(UserIdentityMigration.ORDER + 1)
+@RequiredArgsConstructor
+public class CardLikeUniqueMigration implements ApplicationRunner {
+
+    private static final String TABLE = "card_like";
+    private static final String CONSTRAINT = "uk_card_like_card_user";
+    private static final Set<String> KEY_COLUMNS = Set.of("card_id", "user_id");
+    private static final String DUPLICATE_LIKES_SQL =
+            "SELECT card_id, user_id, MIN(id) AS keep_id FROM card_like WHERE user_id IS NOT NULL " +
+            "GROUP BY card_id, user_id HAVING COUNT(*) > 1";
+    private static final String DELETE_DUPLICATE_LIKES_SQL =
+            "DELETE FROM card_like WHERE card_id = ? AND user_id = ? AND id <> ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LikesCountMigration likesCountMigration;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (hasUniqueKey()) {
+            return;
+        }
+        log.warn("card_like 유니크 제약이 없어 중복 좋아요를 정리합니다: constraint={}", CONSTRAINT);
+
+        int removed = removeDuplicateLikes();
+        // 이전 실행이 삭제 뒤에 멈췄을 수 있으므로 삭제한 행이 없어도 다시 셈
+        likesCountMigration.reconcile();
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD CONSTRAINT " + CONSTRAINT + " UNIQUE (card_id, user_id)");
+
+        if (!hasUniqueKey()) {
+            throw new IllegalStateException("card_like (card_id, user_id) 유니크 제약을 만들지 못했습니다.");
+        }
+        log.info("card_like 유니크 제약 추가 완료: removedDuplicates={}", removed);
+    }
+
+    /**
+     * 같은 (card_id, user_id) 좋아요를 가장 먼저 기록된 행만 남기고 삭제합니다.
+     *
+     * @return 삭제한 행 수
+     */
+    private int removeDuplicateLikes() {
+        List<Object[]> duplicates = jdbcTemplate.query(DUPLICATE_LIKES_SQL, (rs, rowNum) -> new Object[]{
+                rs.getLong("card_id"), rs.getLong("user_id"), rs.getLong("keep_id")});
+        if (duplicates.isEmpty()) {
+            return 0;
+        }
+        // 드라이버가 배치 결과 행 수를 알려 주지 않으면 음수(SUCCESS_NO_INFO)가 오므로 제외
+        return Arrays.stream(jdbcTemplate.batchUpdate(DELETE_DUPLICATE_LIKES_SQL, duplicates)).filter(n -> n > 0).sum();
+    }
+
+    // 이름과 관계없이 정확히 (card_id, user_id) 로 된 유니크 인덱스가 있는지 확인
+    private boolean hasUniqueKey() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            Map<String, Set<String>> columnsByIndex = new HashMap<>();
+            try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), null, TABLE, true, false)) {
+                while (indexes.next()) {
+                    String index = indexes.getString("INDEX_NAME");
+                    String column = indexes.getString("COLUMN_NAME");
+                    if (index != null && column != null) {
+                        columnsByIndex.computeIfAbsent(index, name -> new TreeSet<>())
+                                .add(column.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            return columnsByIndex.values().stream().anyMatch(KEY_COLUMNS::equals);
+        }));
+    }
+}
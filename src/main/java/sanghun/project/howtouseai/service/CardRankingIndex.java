@@ -0,0 +1,182 @@
+package sanghun.project.howtouseai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sanghun.project.howtouseai.domain.Card;
+import sanghun.project.howtouseai.dto.CardRankDto;
+import sanghun.project.howtouseai.event.BulkImportCompletedEvent;
+import sanghun.project.howtouseai.event.CardCreatedEvent;
+import sanghun.project.howtouseai.event.CardDeletedEvent;
+import sanghun.project.howtouseai.event.CardLikeToggledEvent;
+import sanghun.project.howtouseai.repository.CardRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 홈 피드용 카드 순위 인덱스 (좋아요 수 내림차순 → 생성일 최신순)
+ * <p>
+ * 시작 시 DB 에서 (id, likes_count, created_at) 만 읽어 구성하고, 이후에는 좋아요/생성/삭제 이벤트로
+ * 증분 갱신합니다. 상위 N 개 카드 ID 를 페이지 크기에 비례하는 비용으로 조회할 수 있어
+ * 홈 화면마다 전체 카드를 집계·정렬하지 않아도 됩니다.
+ * 다른 노드에서 발생한 변경은 주기적 재구성으로 반영됩니다.
+ * 좋아요 이벤트는 커밋 후 여러 스레드에서 순서 없이 도착하므로, 카드별로 이미 반영한 것보다
+ * 새 좋아요 버전의 이벤트만 반영해 이전 좋아요 수가 최신 값을 덮어쓰지 않게 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CardRankingIndex {
+
+    // 건너뛰기 비용이 offset 에 비례하므로 홈 화면 앞쪽 페이지까지만 허용
+    // (더 깊은 페이지는 좋아요순 커서 피드 /api/cards/feed?sort=popular 로 조회)
+    public static final int MAX_OFFSET = 1_000;
+
+    private final CardRepository cardRepository;
+
+    private volatile Ranking ranking = new Ranking();
+    private final IndexRebuildReplay<Ranking> rebuildReplay = new IndexRebuildReplay<>(() -> ranking);
+    // 카드 ID -> 마지막으로 반영한 좋아요 버전
+    private final ConcurrentHashMap<Long, Long> appliedLikesVersions = new ConcurrentHashMap<>();
+
+    /**
+     * 순위 상위부터 카드 ID 를 조회합니다.
+     *
+     * @param offset 건너뛸 카드 수 (MAX_OFFSET 초과 시 빈 목록)
+     * @param limit  조회할 카드 수
+     * @return 순위 순서의 카드 ID 목록
+     */
+    public List<Long> topCardIds(long offset, int limit) {
+        if (offset > MAX_OFFSET) {
+            return List.of();
+        }
+        List<Long> cardIds = new ArrayList<>(limit);
+        Iterator<RankKey> iterator = ranking.keys.iterator();
+        for (long skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+            iterator.next();
+        }
+        while (cardIds.size() < limit && iterator.hasNext()) {
+            cardIds.add(iterator.next().cardId());
+        }
+        return cardIds;
+    }
+
+    public int size() {
+        return ranking.keysByCardId.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Ranking rebuilt = rebuildReplay.rebuild(() -> {
+            Ranking loaded = new Ranking();
+            for (CardRankDto rank : cardRepository.findAllRanks()) {
+                loaded.put(new RankKey(rank.getLikesCount(), rank.getCreatedAt(), rank.getCardId()));
+            }
+            return loaded;
+        }, loaded -> ranking = loaded);
+        log.info("카드 순위 인덱스 구성 완료: cards={}", rebuilt.keysByCardId.size());
+    }
+
+    @Scheduled(initialDelayString = "${ranking.rebuild-interval-ms:600000}",
+               fixedDelayString = "${ranking.rebuild-interval-ms:600000}")
+    public void rebuildPeriodically() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBulkImportCompleted(BulkImportCompletedEvent event) {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCardCreated(CardCreatedEvent event) {
+        Card card = event.card();
+        RankKey key = new RankKey(card.getLikesCount(), card.getCreatedAt(), card.getId());
+        rebuildReplay.apply(current -> current.put(key));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCardDeleted(CardDeletedEvent event) {
+        rebuildReplay.apply(current -> current.remove(event.cardId()));
+        appliedLikesVersions.remove(event.cardId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCardLikeToggled(CardLikeToggledEvent event) {
+        // 버전 비교와 반영을 카드 단위로 묶어, 비교를 통과한 두 이벤트가 거꾸로 반영되지 않게 함
+        appliedLikesVersions.compute(event.cardId(), (cardId, applied) -> {
+            if (applied != null && applied >= event.likesVersion()) {
+                log.debug("이전 좋아요 이벤트 무시: cardId={}, likesVersion={}, applied={}",
+                        cardId, event.likesVersion(), applied);
+                return applied;
+            }
+            rebuildReplay.apply(current -> current.updateLikesCount(cardId, event.likesCount()));
+            return event.likesVersion();
+        });
+    }
+
+    /**
+     * 정렬 집합과 카드 ID → 키 맵을 한 단위로 묶어 재구성 시 한 번에 교체합니다.
+     */
+    private static class Ranking {
+
+        private final ConcurrentSkipListSet<RankKey> keys = new ConcurrentSkipListSet<>();
+        private final ConcurrentHashMap<Long, RankKey> keysByCardId = new ConcurrentHashMap<>();
+
+        void put(RankKey key) {
+            keysByCardId.compute(key.cardId(), (cardId, previous) -> {
+                if (previous != null) {
+                    keys.remove(previous);
+                }
+                keys.add(key);
+                return key;
+            });
+        }
+
+        void updateLikesCount(Long cardId, long likesCount) {
+            // 아직 인덱스에 없는 카드(다른 노드에서 생성)는 다음 재구성 때 반영
+            keysByCardId.computeIfPresent(cardId, (id, previous) -> {
+                RankKey updated = new RankKey(likesCount, previous.createdAt(), id);
+                keys.remove(previous);
+                keys.add(updated);
+                return updated;
+            });
+        }
+
+        void remove(Long cardId) {
+            keysByCardId.computeIfPresent(cardId, (id, previous) -> {
+                keys.remove(previous);
+                return null;
+            });
+        }
+    }
+
+    private record RankKey(long likesCount, LocalDateTime createdAt, long cardId) implements Comparable<RankKey> {
+
+        @Override
+        public int compareTo(RankKey other) {
+            int result = Long.compare(other.likesCount, likesCount);
+            if (result != 0) {
+                return result;
+            }
+            if (createdAt != null && other.createdAt != null) {
+                result = other.createdAt.compareTo(createdAt);
+            } else if (createdAt != other.createdAt) {
+                result = createdAt == null ? 1 : -1;
+            }
+            if (result != 0) {
+                return result;
+            }
+            return Long.compare(other.cardId, cardId);
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package sanghun.project.howtouseai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sanghun.project.howtouseai.domain.Card;
+import sanghun.project.howtouseai.event.BulkImportCompletedEvent;
+import sanghun.project.howtouseai.event.CardCreatedEvent;
+import sanghun.project.howtouseai.event.CardDeletedEvent;
+import sanghun.project.howtouseai.event.CardUpdatedEvent;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 카드 전문 검색용 역색인 (BM25 + 필드 가중치)
+ * <p>
+ * 제목, 태그, 상황, 사용 예시, 본문을 필드별로 색인하고, 필드마다 BM25 점수를 구해 가중치를 곱해 합산합니다.
+ * 한글은 형태소 분석기 없이 조사·어미가 붙어도 매칭되도록 음절 바이그램으로, 그 외 문자는 단어 단위로 토큰화합니다.
+ * 시작 시 card 테이블에서 구성하고, 이후에는 카드 생성/수정/삭제 이벤트로 증분 갱신합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CardSearchIndex {
+
+    private static final String LOAD_SQL =
+            "SELECT id, title, tags, situation, usage_examples, content FROM card";
+    private static final int FETCH_SIZE = 1_000;
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Index index = new Index();
+    private final IndexRebuildReplay<Index> rebuildReplay = new IndexRebuildReplay<>(() -> index);
+
+    /**
+     * 검색어와 일치하는 카드 ID 를 점수 내림차순으로 조회합니다.
+     *
+     * @param query  검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit  조회할 결과 수
+     * @return 점수 순서의 카드 ID 목록
+     * @throws IllegalArgumentException offset 이 음수인 경우
+     */
+    public List<Long> search(String query, int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset 은 0 이상이어야 합니다: " + offset);
+        }
+        Set<String> terms = new LinkedHashSet<>(analyze(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            Index current = index;
+            int documentCount = current.documents.size();
+            for (String term : terms) {
+                Map<Long, int[]> postings = current.postings.get(term);
+                if (postings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - postings.size() + 0.5) / (postings.size() + 0.5));
+                for (Map.Entry<Long, int[]> posting : postings.entrySet()) {
+                    int[] lengths = current.documents.get(posting.getKey());
+                    double score = 0;
+                    for (Field field : Field.values()) {
+                        int tf = posting.getValue()[field.ordinal()];
+                        if (tf == 0) {
+                            continue;
+                        }
+                        double averageLength = (double) current.totalLengths[field.ordinal()] / documentCount;
+                        double norm = 1 - B + B * lengths[field.ordinal()] / averageLength;
+                        score += field.boost * idf * tf * (K1 + 1) / (tf + K1 * norm);
+                    }
+                    scores.merge(posting.getKey(), score, Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 상위 offset + limit 개만 유지하는 최소 힙 (점수 동률이면 최신 카드(큰 ID) 우선)
+        // offset + limit 이 int 범위를 넘을 수 있으므로 long 으로 계산
+        long wanted = (long) offset + limit;
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(
+                (a, b) -> a.getValue().equals(b.getValue())
+                        ? Long.compare(a.getKey(), b.getKey())
+                        : Double.compare(a.getValue(), b.getValue()));
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > wanted) {
+                top.poll();
+            }
+        }
+        List<Long> ranked = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            ranked.add(top.poll().getKey());
+        }
+        Collections.reverse(ranked);
+        return offset >= ranked.size() ? Collections.emptyList() : ranked.subList(offset, ranked.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Index rebuilt = rebuildReplay.rebuild(this::load, loaded -> {
+            lock.writeLock().lock();
+            try {
+                index = loaded;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+        log.info("카드 검색 인덱스 구성 완료: cards={}, terms={}", rebuilt.documents.size(), rebuilt.postings.size());
+    }
+
+    private Index load() {
+        Index loaded = new Index();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(LOAD_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (ResultSet rs) -> {
+            loaded.add(rs.getLong("id"), new String[]{
+                    rs.getString("title"),
+                    rs.getString("tags"),
+                    rs.getString("situation"),
+                    rs.getString("usage_examples"),
+                    rs.getString("content")
+            });
+        });
+        return loaded;
+    }
+
+    // 다른 노드에서 발생한 변경을 반영하기 위한 주기적 재구성
+    @Scheduled(initialDelayString = "${search.rebuild-interval-ms:600000}",
+               fixedDelayString = "${search.rebuild-interval-ms:600000}")
+    public void rebuildPeriodically() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBulkImportCompleted(BulkImportCompletedEvent event) {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCardCreated(CardCreatedEvent event) {
+        put(event.card());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCardUpdated(CardUpdatedEvent event) {
+        put(event.card());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCardDeleted(CardDeletedEvent event) {
+        rebuildReplay.apply(current -> {
+            lock.writeLock().lock();
+            try {
+                current.remove(event.cardId());
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private void put(Card card) {
+        String[] fields = {card.getTitle(), card.getTags(), card.getSituation(),
+                card.getUsageExamples(), card.getContent()};
+        rebuildReplay.apply(current -> {
+            lock.writeLock().lock();
+            try {
+                current.remove(card.getId());
+                current.add(card.getId(), fields);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 텍스트를 검색 토큰으로 분리합니다.
+     * 영문·숫자는 소문자 단어로, 한글은 연속 구간을 음절 바이그램으로 만듭니다. (한 글자 구간은 그대로 사용)
+     */
+    static List<String> analyze(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int i = 0;
+        while (i < length) {
+            char c = normalized.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < length && isHangul(normalized.charAt(i))) {
+                    i++;
+                }
+                if (i - start == 1) {
+                    tokens.add(normalized.substring(start, i));
+                } else {
+                    for (int j = start; j + 2 <= i; j++) {
+                        tokens.add(normalized.substring(j, j + 2));
+                    }
+                }
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && Character.isLetterOrDigit(normalized.charAt(i))
+                        && !isHangul(normalized.charAt(i))) {
+                    i++;
+                }
+                tokens.add(normalized.substring(start, i));
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+
+    /**
+     * 색인 대상 필드와 가중치
+     */
+    private enum Field {
+        TITLE(3.0),
+        TAGS(2.0),
+        SITUATION(1.0),
+        USAGE_EXAMPLES(1.0),
+        CONTENT(1.0);
+
+        private final double boost;
+
+        Field(double boost) {
+            this.boost = boost;
+        }
+    }
+
+    /**
+     * 용어별 포스팅(카드 ID → 필드별 출현 횟수)과 문서별 필드 길이를 담습니다.
+     * 읽기/쓰기는 외부 ReentrantReadWriteLock 으로 보호합니다.
+     */
+    private static class Index {
+
+        private final Map<String, Map<Long, int[]>> postings = new HashMap<>();
+        private final Map<Long, int[]> documents = new HashMap<>();
+        private final Map<Long, Set<String>> termsByCardId = new HashMap<>();
+        private final long[] totalLengths = new long[Field.values().length];
+
+        void add(Long cardId, String[] fieldValues) {
+            int[] lengths = new int[Field.values().length];
+            Set<String> terms = new LinkedHashSet<>();
+            for (Field field : Field.values()) {
+                List<String> tokens = analyze(fieldValues[field.ordinal()]);
+                lengths[field.ordinal()] = tokens.size();
+                totalLengths[field.ordinal()] += tokens.size();
+                for (String token : tokens) {
+                    postings.computeIfAbsent(token, term -> new HashMap<>())
+                            .computeIfAbsent(cardId, id -> new int[Field.values().length])[field.ordinal()]++;
+                    terms.add(token);
+                }
+            }
+            documents.put(cardId, lengths);
+            termsByCardId.put(cardId, terms);
+        }
+
+        void remove(Long cardId) {
+            int[] lengths = documents.remove(cardId);
+            if (lengths == null) {
+                return;
+            }
+            for (Field field : Field.values()) {
+                totalLengths[field.ordinal()] -= lengths[field.ordinal()];
+            }
+            for (String term : termsByCardId.remove(cardId)) {
+                Map<Long, int[]> termPostings = postings.get(term);
+                termPostings.remove(cardId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
@@ -1,90 +1,303 @@
 package sanghun.project.howtouseai.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import sanghun.project.howtouseai.domain.Card;
 import sanghun.project.howtouseai.domain.Category;
+import sanghun.project.howtouseai.domain.CollectionVersion;
 import sanghun.project.howtouseai.dto.CardCreateRequest;
+import sanghun.project.howtouseai.dto.CardExportDto;
 import sanghun.project.howtouseai.dto.CardResponse;
+import sanghun.project.howtouseai.dto.CardSortType;
+import sanghun.project.howtouseai.dto.CardSummaryDto;
+import sanghun.project.howtouseai.dto.CardSummaryResponse;
 import sanghun.project.howtouseai.dto.CardUpdateRequest;
-import sanghun.project.howtouseai.dto.CategoryResponse;
+import sanghun.project.howtouseai.dto.CardVersionDto;
+import sanghun.project.howtouseai.dto.SliceResponse;
+import sanghun.project.howtouseai.event.CardCreatedEvent;
+import sanghun.project.howtouseai.event.CardDeletedEvent;
+import sanghun.project.howtouseai.event.CardUpdatedEvent;
 import sanghun.project.howtouseai.exception.CardAlreadyExistsException;
 import sanghun.project.howtouseai.exception.CardNotFoundException;
 import sanghun.project.howtouseai.exception.CategoryNotFoundException;
 import sanghun.project.howtouseai.exception.UnauthorizedAccessException;
 import sanghun.project.howtouseai.repository.CardLikeRepository;
 import sanghun.project.howtouseai.repository.CardRepository;
+import sanghun.project.howtouseai.repository.CardTagRepository;
 import sanghun.project.howtouseai.repository.CategoryRepository;
-import sanghun.project.howtouseai.dto.CardLikeCountDto;
-import sanghun.project.howtouseai.domain.CardLike;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
+@Timed(value = "howtouseai.service", histogram = true)
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CardService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
+    // 목록 응답에 담는 태그 수 (홈 타일이 표시하는 개수와 같음)
+    private static final int SUMMARY_TAG_LIMIT = 3;
+
     private final CardRepository cardRepository;
     private final CategoryRepository categoryRepository;
     private final CardLikeRepository cardLikeRepository;
+    private final CardTagRepository cardTagRepository;
+    private final CardRankingIndex cardRankingIndex;
+    private final CardSearchIndex cardSearchIndex;
+    private final CardTagIndex cardTagIndex;
+    private final TagService tagService;
+    private final CategoryCatalog categoryCatalog;
+    private final CardDetailCache cardDetailCache;
+    private final ContentVersionService contentVersionService;
+    private final CardLikeMembershipIndex likeMembershipIndex;
+    private final UserIdentityService userIdentityService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${datasource.replicas.enabled:false}")
+    private boolean replicasEnabled;
+
+    // 내보내기 스트리밍 방식 결정용 DB 종류 (첫 내보내기 때 한 번 확인)
+    private volatile Boolean mysql;
 
     /**
-     * 모든 카드 정보를 조회하고 DTO로 변환하여 반환합니다. (N+1 문제 해결을 위해 Fetch Join 사용)
+     * 모든 카드의 요약 정보를 조회합니다. (카테고리는 스냅샷에서 찾으므로 JOIN 없음, TEXT 컬럼 제외)
      *
      * @param pageable 페이징 정보
-     * @return 카드 응답 DTO의 페이지
+     * @return 카드 요약 DTO의 페이지
      */
     @Transactional(readOnly = true)
-    public Page<CardResponse> getAllCards(Pageable pageable) {
-        log.info("모든 카드 조회 요청 (Fetch Join): page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
-        Page<Card> cards = cardRepository.findAllWithCategory(pageable);
-        log.info("카드 조회 완료 (Fetch Join): totalElements={}, totalPages={}", cards.getTotalElements(), cards.getTotalPages());
-        return cards.map(this::convertToResponse);
+    public Page<CardSummaryResponse> getAllCards(Pageable pageable) {
+        log.info("모든 카드 조회 요청: page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
+        Page<CardSummaryDto> cards = cardRepository.findSummaries(pageable);
+        log.info("카드 조회 완료: totalElements={}, totalPages={}", cards.getTotalElements(), cards.getTotalPages());
+        warmOwnerUuids(cards.getContent());
+        return cards.map(card -> convertToSummary(card, false));
+    }
+
+    /**
+     * 모든 카드를 한 줄에 JSON 객체 하나씩(NDJSON) 기록합니다. 일괄 가져오기 형식과 호환됩니다.
+     * <p>
+     * 작성자 UUID 를 조인한 프로젝션을 전진 전용 스트리밍 조회로 읽으면서 바로 기록합니다.
+     * 엔티티를 영속성 컨텍스트에 올리지 않고 사용자 식별자 캐시도 채우지 않으므로, 카드 수와 관계없이
+     * 메모리 사용량이 일정합니다. 한 행씩 스트리밍하는 fetch size 는 MySQL 드라이버에서만 쓸 수 있으므로
+     * 그 외 DB(테스트의 H2 등)에서는 일반 fetch size 로 조회합니다.
+     *
+     * @param out 출력 스트림 (닫지 않음)
+     * @return 내보낸 카드 수
+     */
+    public long exportCards(OutputStream out) throws IOException {
+        log.info("카드 내보내기 시작");
+        long exported = 0;
+        try (Stream<CardExportDto> cards = isMySql()
+                ? cardRepository.streamAllForExportRowByRow()
+                : cardRepository.streamAllForExport();
+             JsonGenerator generator = objectMapper.createGenerator(out)
+                     .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            Iterator<CardExportDto> iterator = cards.iterator();
+            while (iterator.hasNext()) {
+                writeExportLine(generator, iterator.next());
+                if (++exported % EXPORT_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
+        log.info("카드 내보내기 완료: cards={}", exported);
+        return exported;
+    }
+
+    /**
+     * 커서(keyset) 기반으로 카드 목록을 조회합니다. OFFSET 과 전체 개수 조회 없이
+     * 이전 페이지 마지막 카드의 (정렬 키, ID) 이후만 조회하므로 깊은 페이지도 비용이 일정합니다.
+     *
+     * @param sort   정렬 기준 (최신순 또는 좋아요순)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (최대 100)
+     * @return 카드 요약 목록과 다음 페이지 커서
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<CardSummaryResponse> getCardsByCursor(CardSortType sort, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        log.info("카드 커서 조회 요청: sort={}, size={}, hasCursor={}", sort, pageSize, cursor != null);
+
+        Pageable pageable = PageRequest.of(0, pageSize);
+        CardCursor after = (cursor == null || cursor.isBlank()) ? null : CardCursor.decode(cursor, sort);
+        Slice<CardSummaryDto> slice;
+        if (sort == CardSortType.POPULAR) {
+            slice = after == null
+                    ? cardRepository.findPopularSlice(pageable)
+                    : cardRepository.findPopularSliceAfter(after.likesCount(), after.createdAt(), after.id(), pageable);
+        } else {
+            slice = after == null
+                    ? cardRepository.findLatestSlice(pageable)
+                    : cardRepository.findLatestSliceAfter(after.createdAt(), after.id(), pageable);
+        }
+
+        List<CardSummaryDto> cards = slice.getContent();
+        String nextCursor = slice.hasNext() && !cards.isEmpty()
+                ? CardCursor.of(cards.get(cards.size() - 1), sort).encode()
+                : null;
+        log.info("카드 커서 조회 완료: count={}, hasNext={}", cards.size(), slice.hasNext());
+        warmOwnerUuids(cards);
+
+        return SliceResponse.<CardSummaryResponse>builder()
+                .content(cards.stream().map(card -> convertToSummary(card, false)).collect(Collectors.toList()))
+                .size(cards.size())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
     }
 
     /**
      * 홈 페이지에 표시할 카드 목록을 조회합니다. (좋아요 정보 포함, 좋아요 순 → 생성일 최신순 정렬)
+     * 순위 인덱스는 앞쪽 {@link CardRankingIndex#MAX_OFFSET} 장까지만 페이지로 제공하며,
+     * 그보다 깊은 페이지는 빈 목록이므로 좋아요순 커서 조회({@link #getCardsByCursor})를 사용해야 합니다.
      *
      * @param pageable 페이징 정보
      * @param userUuid 현재 사용자 UUID
-     * @return 카드 응답 DTO 리스트
+     * @return 카드 요약 DTO 리스트
      */
     @Transactional(readOnly = true)
-    public List<CardResponse> getCardsForHomePage(Pageable pageable, String userUuid) {
+    public List<CardSummaryResponse> getCardsForHomePage(Pageable pageable, String userUuid) {
         log.info("홈 페이지 카드 조회 요청: page={}, size={}, userUuid={}", 
                 pageable.getPageNumber(), pageable.getPageSize(), userUuid);
         
-        // 좋아요 순 → 생성일 최신순으로 정렬된 카드 조회 (JOIN 기반으로 더 효율적)
-        Page<Card> cards = cardRepository.findAllWithCategoryOrderedByLikesAndDate(pageable);
-        log.info("홈 페이지 카드 조회 완료: totalElements={}, totalPages={}", 
-                cards.getTotalElements(), cards.getTotalPages());
-
-        List<Long> cardIds = cards.getContent().stream().map(Card::getId).collect(Collectors.toList());
-        
-        // N+1 문제를 해결하기 위해 좋아요 정보를 한 번에 조회
-        Map<Long, List<CardLike>> likesByCardId = cardLikeRepository.findByCard_IdIn(cardIds).stream()
-                .collect(Collectors.groupingBy(like -> like.getCard().getId()));
-
-        return cards.getContent().stream()
-                .map(card -> {
-                    List<CardLike> likes = likesByCardId.getOrDefault(card.getId(), Collections.emptyList());
-                    long likesCount = likes.size();
-                    boolean isLiked = likes.stream().anyMatch(like -> like.getUuid().equals(userUuid));
-                    List<String> likedUuids = likes.stream().map(CardLike::getUuid).collect(Collectors.toList());
-                    return convertToResponse(card, likesCount, isLiked, likedUuids);
-                })
+        // 순위 인덱스에서 현재 페이지의 카드 ID만 가져온 뒤 해당 카드만 조회 (좋아요 순 → 생성일 최신순)
+        List<Long> cardIds = cardRankingIndex.topCardIds(pageable.getOffset(), pageable.getPageSize());
+        List<CardSummaryDto> cards = findSummariesInOrder(cardIds);
+        log.info("홈 페이지 카드 조회 완료: count={}, rankedCards={}", cards.size(), cardRankingIndex.size());
+
+        // 좋아요 수는 card.likes_count 컬럼, 사용자 좋아요 여부는 메모리 멤버십 인덱스로 확인 (DB 조회 없음)
+        Long userId = userIdentityService.findId(userUuid).orElse(null);
+        Set<Long> likedCardIds = likeMembershipIndex.likedCardIds(userId, cardIds);
+        warmOwnerUuids(cards);
+
+        return cards.stream()
+                .map(card -> convertToSummary(card, likedCardIds.contains(card.getId())))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 홈 타일을 다시 렌더링할 카드 요약을 주 DB 에서 조회합니다. (타일 캐시 미스 시 사용)
+     * 타일은 모든 사용자가 공유하므로 likedByUser 는 항상 false 입니다.
+     *
+     * @param cardIds 카드 ID 목록
+     * @return 카드 ID 별 요약 응답 (그 사이 삭제된 카드는 없음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<Long, CardSummaryResponse> getCardSummariesFromPrimary(Collection<Long> cardIds) {
+        return readFromPrimary(() -> {
+            List<CardSummaryDto> cards = findSummariesInOrder(List.copyOf(cardIds));
+            warmOwnerUuids(cards);
+            return cards.stream()
+                    .collect(Collectors.toMap(CardSummaryDto::getId, card -> convertToSummary(card, false)));
+        });
+    }
+
+    /**
+     * 태그가 달린 카드를 최신순으로 커서(keyset) 기반 조회합니다. 메모리 태그 포스팅에서 카드 ID를 구합니다.
+     *
+     * @param tag    태그 이름 (대소문자 구분 없음)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (최대 100)
+     * @return 카드 요약 목록과 다음 페이지 커서
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<CardSummaryResponse> getCardsByTag(String tag, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        log.info("태그별 카드 조회 요청: tag={}, size={}, cursor={}", tag, pageSize, cursor);
+
+        Long afterCardId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                afterCardId = Long.valueOf(cursor);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+        }
+
+        // 한 개 더 조회해 다음 페이지 존재 여부 판단
+        List<Long> cardIds = cardTagIndex.cardIds(tag, afterCardId, pageSize + 1);
+        boolean hasNext = cardIds.size() > pageSize;
+        List<Long> pageIds = hasNext ? cardIds.subList(0, pageSize) : cardIds;
+        List<CardSummaryDto> cards = findSummariesInOrder(pageIds);
+        log.info("태그별 카드 조회 완료: tag={}, count={}, hasNext={}", tag, cards.size(), hasNext);
+
+        warmOwnerUuids(cards);
+        return SliceResponse.<CardSummaryResponse>builder()
+                .content(cards.stream().map(card -> convertToSummary(card, false)).collect(Collectors.toList()))
+                .size(cards.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? String.valueOf(pageIds.get(pageIds.size() - 1)) : null)
+                .build();
+    }
+
+    /**
+     * 검색어로 카드를 검색합니다. 메모리 역색인(BM25)에서 관련도 순 카드 ID를 구한 뒤 해당 카드만 조회합니다.
+     *
+     * @param query 검색어
+     * @param page  페이지 번호 (0부터)
+     * @param size  페이지 크기 (최대 50)
+     * @return 관련도 순 카드 요약 DTO 리스트
+     * @throws IllegalArgumentException 검색어가 비어 있거나 페이지 번호가 너무 커 오프셋이 int 범위를 넘는 경우
+     */
+    @Transactional(readOnly = true)
+    public List<CardSummaryResponse> searchCards(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        log.info("카드 검색 요청: query={}, page={}, size={}", query, page, pageSize);
+
+        int offset;
+        try {
+            offset = Math.multiplyExact(Math.max(page, 0), pageSize);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("페이지 번호가 너무 큽니다: " + page);
+        }
+        List<Long> cardIds = cardSearchIndex.search(query, offset, pageSize);
+        List<CardSummaryDto> cards = findSummariesInOrder(cardIds);
+        log.info("카드 검색 완료: query={}, count={}", query, cards.size());
+
+        warmOwnerUuids(cards);
+        return cards.stream().map(card -> convertToSummary(card, false)).collect(Collectors.toList());
+    }
+
     /**
      * 특정 ID의 카드 정보를 조회하고 DTO로 변환하여 반환합니다.
      *
@@ -93,21 +306,55 @@ public class CardService {
      * @return 카드 응답 DTO
      * @throws CardNotFoundException 해당 ID의 카드가 존재하지 않을 경우
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CardResponse getCardById(Long cardId, String userUuid) {
+        return getCardById(cardId, userUuid, null);
+    }
+
+    /**
+     * 특정 ID의 카드 정보를 조회합니다. 캐시 값은 주어진 카드 버전과 같을 때만 사용합니다.
+     * <p>
+     * 트랜잭션 없이 단계별로 조회합니다. 캐시 미스 로딩이 버전 조회의 연결을 잡은 채 두 번째 연결을 기다리면
+     * 동시 미스가 풀 크기에 이르렀을 때 모든 요청이 연결 대기로 실패하기 때문입니다.
+     *
+     * @param cardId 카드 ID
+     * @param userUuid 현재 사용자 UUID
+     * @param version ETag 계산에 사용한 카드 버전 (null 이면 PK 로 조회)
+     * @return 카드 응답 DTO
+     * @throws CardNotFoundException 해당 ID의 카드가 존재하지 않을 경우
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CardResponse getCardById(Long cardId, String userUuid, CardVersionDto version) {
         log.info("카드 상세 조회 요청: cardId={}, userUuid={}", cardId, userUuid);
-        Card card = cardRepository.findByIdWithCategory(cardId)
+        CardVersionDto expected = version != null ? version : cardRepository.findVersionById(cardId)
                 .orElseThrow(() -> new CardNotFoundException("Card not found with id: " + cardId));
+        CardResponse detail = cardDetailCache.get(cardId, expected, id -> readFromPrimary(() -> loadCardDetail(id)));
+
+        // 사용자별 좋아요 여부는 캐시 값에 넣지 않고 멤버십 인덱스로 덧씌움
+        Long userId = userIdentityService.findId(userUuid).orElse(null);
+        boolean isLiked = likeMembershipIndex.isLiked(cardId, userId);
         
-        List<CardLike> likes = cardLikeRepository.findByCard_Id(cardId);
-        long likesCount = likes.size();
-        boolean isLiked = likes.stream().anyMatch(like -> like.getUuid().equals(userUuid));
-        List<String> likedUuids = likes.stream().map(CardLike::getUuid).collect(Collectors.toList());
-        
-        log.info("카드 상세 조회 완료: id={}, title={}, likesCount={}, isLiked={}, userUuid={}, likedUuids={}", 
-                card.getId(), card.getTitle(), likesCount, isLiked, userUuid, likedUuids);
+        log.info("카드 상세 조회 완료: id={}, title={}, likesCount={}, isLiked={}, userUuid={}", 
+                detail.getId(), detail.getTitle(), detail.getLikesCount(), isLiked, userUuid);
         
-        return convertToResponse(card, likesCount, isLiked, likedUuids);
+        // 카테고리는 캐시 값 대신 현재 스냅샷의 것을 사용 (다른 노드에서 변경된 경우 대비)
+        return detail.toBuilder()
+                .category(detail.getCategory() == null ? null : categoryCatalog.find(detail.getCategory().getId()))
+                .likedByUser(isLiked)
+                .build();
+    }
+
+    /**
+     * 캐시 미스 시 카드 상세를 주 DB 에서 만듭니다. (사용자와 무관한 정보만 포함)
+     */
+    private CardResponse loadCardDetail(Long cardId) {
+        Card card = cardRepository.findById(cardId)
+                .orElseThrow(() -> new CardNotFoundException("Card not found with id: " + cardId));
+
+        // 좋아요한 사용자 목록은 싣지 않음 (좋아요가 많은 카드에서 응답과 캐시 항목이 좋아요 수에 비례해 커짐)
+        // 현재 사용자의 좋아요 여부는 getCardById 에서 likedByUser 로 덧씌움
+        log.info("카드 상세 로딩 완료: id={}, likesCount={}", cardId, card.getLikesCount());
+        return convertToResponse(card);
     }
 
     @Transactional
@@ -115,17 +362,19 @@ public class CardService {
         log.info("카드 생성 요청: title={}, categoryId={}, uuid={}", 
                 request.getTitle(), request.getCategoryId(), request.getUuid());
 
-        // 카테고리 존재 여부 확인
-        Category category = categoryRepository.findById(request.getCategoryId())
-                .orElseThrow(() -> {
-                    log.warn("존재하지 않는 카테고리로 카드 생성 시도: categoryId={}", request.getCategoryId());
-                    return new CategoryNotFoundException(
-                        String.format("카테고리를 찾을 수 없습니다: ID %d", request.getCategoryId())
-                    );
-                });
+        // 카테고리 존재 여부 확인 (스냅샷으로 확인 후 조회 없이 참조만 사용)
+        if (categoryCatalog.find(request.getCategoryId()) == null) {
+            log.warn("존재하지 않는 카테고리로 카드 생성 시도: categoryId={}", request.getCategoryId());
+            throw new CategoryNotFoundException(
+                String.format("카테고리를 찾을 수 없습니다: ID %d", request.getCategoryId())
+            );
+        }
+        Category category = categoryRepository.getReferenceById(request.getCategoryId());
+
+        Long ownerId = userIdentityService.resolveOrCreate(request.getUuid());
 
         // 중복 카드 제목 체크 (같은 사용자 내에서)
-        if (cardRepository.existsByTitleAndUuid(request.getTitle(), request.getUuid())) {
+        if (cardRepository.existsByTitleAndOwnerId(request.getTitle(), ownerId)) {
             log.warn("중복된 카드 제목으로 생성 시도: title={}, uuid={}", request.getTitle(), request.getUuid());
             throw new CardAlreadyExistsException(
                 String.format("이미 존재하는 카드 제목입니다: %s", request.getTitle())
@@ -134,7 +383,7 @@ public class CardService {
 
         // 카드 엔티티 생성
         Card card = Card.builder()
-                .uuid(request.getUuid())
+                .ownerId(ownerId)
                 .title(request.getTitle())
                 .category(category)
                 .tags(request.getTags())
@@ -145,7 +394,10 @@ public class CardService {
 
         // 저장
         Card savedCard = cardRepository.save(card);
+        tagService.replaceTags(savedCard);
+        contentVersionService.bump(CollectionVersion.CARDS);
         log.info("카드 생성 완료: id={}, title={}", savedCard.getId(), savedCard.getTitle());
+        eventPublisher.publishEvent(new CardCreatedEvent(savedCard));
 
         // 응답 DTO로 변환
         return convertToResponse(savedCard);
@@ -165,10 +417,11 @@ public class CardService {
                     );
                 });
 
-        // 권한 확인 (UUID가 일치하는지)
-        if (!card.getUuid().equals(request.getUuid())) {
-            log.warn("권한 없는 사용자의 카드 수정 시도: cardId={}, requestUuid={}, cardUuid={}", 
-                    cardId, request.getUuid(), card.getUuid());
+        // 권한 확인 (요청 UUID의 사용자 ID가 작성자와 일치하는지)
+        Long requesterId = userIdentityService.findId(request.getUuid()).orElse(null);
+        if (requesterId == null || !requesterId.equals(card.getOwnerId())) {
+            log.warn("권한 없는 사용자의 카드 수정 시도: cardId={}, requestUuid={}, ownerId={}", 
+                    cardId, request.getUuid(), card.getOwnerId());
             throw new UnauthorizedAccessException(
                 String.format("카드 수정 권한이 없습니다: ID %d", cardId)
             );
@@ -182,7 +435,7 @@ public class CardService {
         if (newTitle != null && !newTitle.trim().isEmpty()) {
             // 중복 카드 제목 체크 (자신 제외, 같은 사용자 내에서)
             if (!card.getTitle().equals(newTitle) && 
-                cardRepository.existsByTitleAndUuid(newTitle, request.getUuid())) {
+                cardRepository.existsByTitleAndOwnerId(newTitle, requesterId)) {
                 log.warn("중복된 카드 제목으로 수정 시도: title={}, uuid={}", newTitle, request.getUuid());
                 throw new CardAlreadyExistsException(
                     String.format("이미 존재하는 카드 제목입니다: %s", newTitle)
@@ -193,23 +446,25 @@ public class CardService {
         }
 
         // 카테고리 업데이트 처리
-        if (newCategoryId != null && !newCategoryId.equals(card.getCategory().getId())) {
-            newCategory = categoryRepository.findById(newCategoryId)
-                    .orElseThrow(() -> {
-                        log.warn("존재하지 않는 카테고리로 카드 수정 시도: categoryId={}", newCategoryId);
-                        return new CategoryNotFoundException(
-                            String.format("카테고리를 찾을 수 없습니다: ID %d", newCategoryId)
-                        );
-                    });
+        if (newCategoryId != null && !newCategoryId.equals(card.getCategoryId())) {
+            if (categoryCatalog.find(newCategoryId) == null) {
+                log.warn("존재하지 않는 카테고리로 카드 수정 시도: categoryId={}", newCategoryId);
+                throw new CategoryNotFoundException(
+                    String.format("카테고리를 찾을 수 없습니다: ID %d", newCategoryId)
+                );
+            }
+            newCategory = categoryRepository.getReferenceById(newCategoryId);
         }
 
         // 카드 정보 업데이트
         card.updateInfo(newTitle, newCategory, request.getTags(), 
                        request.getSituation(), request.getUsageExamples(), request.getContent());
         
-        // 저장
-        Card updatedCard = cardRepository.save(card);
+        // 저장 (응답과 이벤트가 올라간 버전을 담도록 즉시 반영)
+        Card updatedCard = cardRepository.saveAndFlush(card);
+        tagService.replaceTags(updatedCard);
         log.info("카드 수정 완료: id={}, title={}", updatedCard.getId(), updatedCard.getTitle());
+        eventPublisher.publishEvent(new CardUpdatedEvent(updatedCard));
 
         // 응답 DTO로 변환
         return convertToResponse(updatedCard);
@@ -228,95 +483,136 @@ public class CardService {
                     );
                 });
 
-        // 권한 확인 (UUID가 일치하는지)
-        if (!card.getUuid().equals(uuid)) {
-            log.warn("권한 없는 사용자의 카드 삭제 시도: cardId={}, requestUuid={}, cardUuid={}", 
-                    cardId, uuid, card.getUuid());
+        // 권한 확인 (요청 UUID의 사용자 ID가 작성자와 일치하는지)
+        Long requesterId = userIdentityService.findId(uuid).orElse(null);
+        if (requesterId == null || !requesterId.equals(card.getOwnerId())) {
+            log.warn("권한 없는 사용자의 카드 삭제 시도: cardId={}, requestUuid={}, ownerId={}", 
+                    cardId, uuid, card.getOwnerId());
             throw new UnauthorizedAccessException(
                 String.format("카드 삭제 권한이 없습니다: ID %d", cardId)
             );
         }
 
-        // 관련된 좋아요 데이터 먼저 삭제
+        // 관련된 태그 연결과 좋아요 데이터 먼저 삭제
+        cardTagRepository.deleteByCardId(cardId);
         log.info("카드 관련 좋아요 데이터 삭제 시작: cardId={}", cardId);
         cardLikeRepository.deleteByCardId(cardId);
         log.info("카드 관련 좋아요 데이터 삭제 완료: cardId={}", cardId);
 
         // 카드 삭제
         cardRepository.delete(card);
+        contentVersionService.bump(CollectionVersion.CARDS);
         log.info("카드 삭제 완료: id={}, title={}", cardId, card.getTitle());
+        eventPublisher.publishEvent(new CardDeletedEvent(cardId));
+    }
+
+    private boolean isMySql() {
+        Boolean current = mysql;
+        if (current == null) {
+            current = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())));
+            mysql = current;
+        }
+        return current;
+    }
+
+    private void writeExportLine(JsonGenerator generator, CardExportDto card) throws IOException {
+        generator.writeStartObject();
+        generator.writeObjectField("id", card.getId());
+        generator.writeStringField("uuid", card.getOwnerUuid());
+        generator.writeStringField("title", card.getTitle());
+        generator.writeObjectField("categoryId", card.getCategoryId());
+        generator.writeStringField("tags", card.getTags());
+        generator.writeStringField("situation", card.getSituation());
+        generator.writeStringField("usageExamples", card.getUsageExamples());
+        generator.writeStringField("content", card.getContent());
+        generator.writeObjectField("createdAt", card.getCreatedAt());
+        generator.writeObjectField("likesCount", card.getLikesCount());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
     }
 
     /**
-     * 카드 엔티티를 전체 정보 DTO로 변환합니다. (좋아요 정보 포함)
-     *
-     * @param card 카드 엔티티
-     * @return 카드 응답 DTO
+     * 인덱스가 정한 순서대로 카드 요약을 조회합니다. (그 사이 삭제된 카드는 제외)
      */
-    private CardResponse convertToResponse(Card card) {
-        CategoryResponse categoryResponse = CategoryResponse.builder()
-                .id(card.getCategory().getId())
-                .name(card.getCategory().getName())
-                .iconUrl(card.getCategory().getIconUrl())
-                .createdAt(card.getCategory().getCreatedAt())
-                .build();
+    private List<CardSummaryDto> findSummariesInOrder(List<Long> cardIds) {
+        if (cardIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, CardSummaryDto> cardsById = cardRepository.findSummariesByIdIn(cardIds).stream()
+                .collect(Collectors.toMap(CardSummaryDto::getId, Function.identity()));
+        return cardIds.stream()
+                .map(cardsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 
-        // 좋아요 정보 조회
-        Long likesCount = cardLikeRepository.countByCardId(card.getId());
-        List<String> likedUserUuids = cardLikeRepository.findUuidsByCardId(card.getId());
+    /**
+     * 캐시에 채울 값을 주 DB 에서 읽습니다. 호출자는 트랜잭션 밖에 있어야 합니다. (연결을 두 개 잡지 않도록)
+     * 무효화 직후의 다시 읽기가 뒤처진 복제본으로 가면 수정 전 행이 캐시에 남으므로, 복제본을 쓰는 경우
+     * 읽기-쓰기 트랜잭션으로 실행해 주 DB 연결을 사용합니다. 복제본이 없으면 읽기 전용 트랜잭션으로 충분합니다.
+     */
+    private <T> T readFromPrimary(Supplier<T> read) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(!replicasEnabled);
+        return transaction.execute(status -> read.get());
+    }
 
-        return CardResponse.builder()
+    /**
+     * 목록 변환 전에 작성자 UUID 를 한 번의 쿼리로 캐시에 적재합니다. (카드마다 조회하지 않도록)
+     */
+    private void warmOwnerUuids(List<CardSummaryDto> cards) {
+        userIdentityService.uuidsOf(cards.stream().map(CardSummaryDto::getOwnerId).collect(Collectors.toSet()));
+    }
+
+    /**
+     * 카드 요약을 목록 응답으로 변환합니다. 태그는 메모리 태그 인덱스에서 앞쪽 일부만 담습니다.
+     *
+     * @param card 카드 요약
+     * @param isLiked 현재 사용자의 좋아요 여부
+     * @return 카드 요약 응답 DTO
+     */
+    private CardSummaryResponse convertToSummary(CardSummaryDto card, boolean isLiked) {
+        List<String> tags = cardTagIndex.tagsOf(card.getId());
+        if (tags == null) {
+            tags = Collections.emptyList();
+        }
+        return CardSummaryResponse.builder()
                 .id(card.getId())
-                .uuid(card.getUuid())
+                .uuid(userIdentityService.uuidOf(card.getOwnerId()))
                 .title(card.getTitle())
-                .category(categoryResponse)
-                .tags(card.getTags())
-                .situation(card.getSituation())
-                .usageExamples(card.getUsageExamples())
-                .content(card.getContent())
+                .category(categoryCatalog.find(card.getCategoryId()))
+                .tagList(List.copyOf(tags.subList(0, Math.min(tags.size(), SUMMARY_TAG_LIMIT))))
+                .tagCount(tags.size())
+                .excerpt(card.getExcerpt())
                 .createdAt(card.getCreatedAt())
-                .likesCount(likesCount)
-                .likedUserUuids(likedUserUuids)
+                .likesCount(card.getLikesCount())
+                .likedByUser(isLiked)
+                .version(card.getVersion())
                 .build();
     }
 
     /**
-     * 카드 엔티티를 DTO로 변환합니다.
+     * 카드 엔티티를 전체 정보 DTO로 변환합니다. (좋아요 수는 likes_count 컬럼 사용)
      *
      * @param card 카드 엔티티
-     * @param likesCount 좋아요 수
-     * @param isLiked 현재 사용자의 좋아요 여부
-     * @param likedUuids 좋아요한 사용자 UUID 목록
      * @return 카드 응답 DTO
      */
-    private CardResponse convertToResponse(Card card, long likesCount, boolean isLiked, List<String> likedUuids) {
-        CategoryResponse categoryResponse = new CategoryResponse(
-            card.getCategory().getId(),
-            card.getCategory().getName(),
-            card.getCategory().getIconUrl()
-        );
-
+    private CardResponse convertToResponse(Card card) {
         return CardResponse.builder()
                 .id(card.getId())
-                .uuid(card.getUuid())
+                .uuid(userIdentityService.uuidOf(card.getOwnerId()))
                 .title(card.getTitle())
-                .category(categoryResponse)
+                .category(categoryCatalog.find(card.getCategoryId()))
                 .tags(card.getTags())
+                .tagList(TagService.split(card.getTags()))
                 .situation(card.getSituation())
                 .usageExamples(card.getUsageExamples())
                 .content(card.getContent())
                 .createdAt(card.getCreatedAt())
-                .likesCount(likesCount)
-                .likedByUser(isLiked)
-                .likedUserUuids(likedUuids)
+                .likesCount(card.getLikesCount())
+                .version(card.getVersion())
+                .likesVersion(card.getLikesVersion())
                 .build();
     }
-
-    private Map<Long, Long> getLikesCountMap(List<Long> cardIds) {
-        if (cardIds == null || cardIds.isEmpty()) {
-            return Collections.emptyMap();
-        }
-        return cardLikeRepository.countLikesByCardIds(cardIds).stream()
-                .collect(Collectors.toMap(CardLikeCountDto::getCardId, CardLikeCountDto::getLikeCount));
-    }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,207 @@
+package sanghun.project.howtouseai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sanghun.project.howtouseai.domain.Card;
+import sanghun.project.howtouseai.dto.TagCountResponse;
+import sanghun.project.howtouseai.event.BulkImportCompletedEvent;
+import sanghun.project.howtouseai.event.CardCreatedEvent;
+import sanghun.project.howtouseai.event.CardDeletedEvent;
+import sanghun.project.howtouseai.event.CardUpdatedEvent;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 태그 → 카드 ID 포스팅 리스트와 카드 → 태그 목록을 메모리에 유지하는 인덱스입니다.
+ * <p>
+ * 포스팅은 카드 ID 내림차순(최신 카드 우선)으로 정렬되어 "태그 X 의 카드"를 마지막 카드 ID 기준
+ * keyset 방식으로 페이지 크기에 비례하는 비용으로 조회합니다. 태그 키는 대소문자를 구분하지 않습니다.
+ * 시작 시 card_tag 에서 구성하고, 이후에는 카드 생성/수정/삭제 이벤트로 갱신합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CardTagIndex {
+
+    private static final String LOAD_SQL =
+            "SELECT ct.card_id, t.name FROM card_tag ct JOIN tag t ON t.id = ct.tag_id " +
+            "ORDER BY ct.card_id, ct.position";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Tags tags = new Tags();
+    private final IndexRebuildReplay<Tags> rebuildReplay = new IndexRebuildReplay<>(() -> tags);
+
+    /**
+     * 카드의 태그 목록 (입력 순서). 인덱스에 없는 카드는 null 을 반환합니다.
+     */
+    public List<String> tagsOf(Long cardId) {
+        return tags.tagsByCardId.get(cardId);
+    }
+
+    /**
+     * 태그가 달린 카드 ID 를 최신순으로 조회합니다.
+     *
+     * @param tag         태그 이름
+     * @param afterCardId 이전 페이지의 마지막 카드 ID (첫 페이지는 null)
+     * @param limit       조회할 카드 수
+     * @return 카드 ID 목록
+     */
+    public List<Long> cardIds(String tag, Long afterCardId, int limit) {
+        Posting posting = tags.postings.get(key(tag));
+        if (posting == null) {
+            return Collections.emptyList();
+        }
+        NavigableSet<Long> cardIds = afterCardId == null
+                ? posting.cardIds
+                : posting.cardIds.tailSet(afterCardId, false);
+        List<Long> page = new ArrayList<>(limit);
+        for (Long cardId : cardIds) {
+            if (page.size() >= limit) {
+                break;
+            }
+            page.add(cardId);
+        }
+        return page;
+    }
+
+    /**
+     * 카드 수가 많은 태그 순으로 조회합니다.
+     */
+    public List<TagCountResponse> topTags(int limit) {
+        PriorityQueue<Posting> top = new PriorityQueue<>(Comparator.comparingInt(posting -> posting.size));
+        for (Posting posting : tags.postings.values()) {
+            top.offer(posting);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<TagCountResponse> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            Posting posting = top.poll();
+            result.add(TagCountResponse.builder().name(posting.name).cardCount(posting.size).build());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Tags rebuilt = rebuildReplay.rebuild(() -> {
+            Map<Long, List<String>> loading = new HashMap<>();
+            jdbcTemplate.query(LOAD_SQL, (ResultSet rs) -> {
+                loading.computeIfAbsent(rs.getLong("card_id"), id -> new ArrayList<>()).add(rs.getString("name"));
+            });
+            Tags loaded = new Tags();
+            loading.forEach(loaded::put);
+            return loaded;
+        }, loaded -> tags = loaded);
+        log.info("태그 인덱스 구성 완료: cards={}, tags={}", rebuilt.tagsByCardId.size(), rebuilt.postings.size());
+    }
+
+    // 다른 노드에서 발생한 변경을 반영하기 위한 주기적 재구성
+    @Scheduled(initialDelayString = "${tags.rebuild-interval-ms:600000}",
+               fixedDelayString = "${tags.rebuild-interval-ms:600000}")
+    public void rebuildPeriodically() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBulkImportCompleted(BulkImportCompletedEvent event) {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCardCreated(CardCreatedEvent event) {
+        put(event.card());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCardUpdated(CardUpdatedEvent event) {
+        put(event.card());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCardDeleted(CardDeletedEvent event) {
+        rebuildReplay.apply(current -> current.put(event.cardId(), List.of()));
+    }
+
+    private void put(Card card) {
+        List<String> names = TagService.split(card.getTags());
+        rebuildReplay.apply(current -> current.put(card.getId(), names));
+    }
+
+    private static String key(String tag) {
+        return tag == null ? "" : tag.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 포스팅과 카드별 태그 목록을 한 단위로 묶어 재구성 시 한 번에 교체합니다.
+     */
+    private static class Tags {
+
+        private final ConcurrentHashMap<String, Posting> postings = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Long, List<String>> tagsByCardId = new ConcurrentHashMap<>();
+
+        void put(Long cardId, List<String> names) {
+            // 같은 카드에 대한 갱신은 compute 로 직렬화
+            tagsByCardId.compute(cardId, (id, previous) -> {
+                if (previous != null) {
+                    previous.forEach(name -> postings.computeIfPresent(key(name), (k, posting) ->
+                            posting.remove(id) ? null : posting));
+                }
+                names.forEach(name -> postings.compute(key(name), (k, posting) -> {
+                    Posting target = posting == null ? new Posting(name) : posting;
+                    target.add(id);
+                    return target;
+                }));
+                return names.isEmpty() ? null : List.copyOf(names);
+            });
+        }
+    }
+
+    /**
+     * 한 태그의 카드 ID 집합 (ID 내림차순). 변경은 ConcurrentHashMap.compute 안에서만 일어납니다.
+     */
+    private static final class Posting {
+
+        private final String name;
+        private final ConcurrentSkipListSet<Long> cardIds = new ConcurrentSkipListSet<>(Comparator.reverseOrder());
+        private volatile int size;
+
+        private Posting(String name) {
+            this.name = name;
+        }
+
+        void add(Long cardId) {
+            if (cardIds.add(cardId)) {
+                size++;
+            }
+        }
+
+        // 비게 되면 true
+        boolean remove(Long cardId) {
+            if (cardIds.remove(cardId)) {
+                size--;
+            }
+            return size == 0;
+        }
+    }
+}
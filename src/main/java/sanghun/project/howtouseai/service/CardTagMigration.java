@@ -0,0 +1,101 @@
+package sanghun.project.howtouseai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * card.tags 문자열 컬럼에서 tag / card_tag 를 채우는 마이그레이션.
+ * card_tag 연결이 하나도 없는 태그 보유 카드만 대상으로 하므로 반복 실행해도 안전하며,
+ * 태그 인덱스 구성(ApplicationReadyEvent)보다 먼저 수행됩니다.
+ * 대상 카드를 ID 순으로 나눠(keyset) 읽고 나눈 단위마다 반영하므로, 카드 수와 관계없이 메모리 사용량이 일정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CardTagMigration implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String PENDING_SQL =
+            "SELECT c.id, c.tags FROM card c WHERE c.id > ? AND c.tags IS NOT NULL AND c.tags <> '' " +
+            "AND NOT EXISTS (SELECT 1 FROM card_tag ct WHERE ct.card_id = c.id) ORDER BY c.id LIMIT " + BATCH_SIZE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long lastId = 0;
+        int migrated = 0;
+        while (true) {
+            Map<Long, List<String>> pending = new LinkedHashMap<>();
+            List<Long> scanned = jdbcTemplate.query(PENDING_SQL, (rs, rowNum) -> {
+                long cardId = rs.getLong("id");
+                List<String> names = TagService.split(rs.getString("tags"));
+                if (!names.isEmpty()) {
+                    pending.put(cardId, names);
+                }
+                return cardId;
+            }, lastId);
+            if (scanned.isEmpty()) {
+                break;
+            }
+            if (!pending.isEmpty()) {
+                List<Long> chunk = new ArrayList<>(pending.keySet());
+                transactionTemplate.executeWithoutResult(status -> migrateChunk(chunk, pending));
+                migrated += chunk.size();
+                log.info("카드 태그 마이그레이션 진행: migratedCards={}, lastCardId={}",
+                        migrated, chunk.get(chunk.size() - 1));
+            }
+            lastId = scanned.get(scanned.size() - 1);
+        }
+        if (migrated > 0) {
+            log.info("카드 태그 마이그레이션 완료: cards={}", migrated);
+        }
+    }
+
+    private void migrateChunk(List<Long> cardIds, Map<Long, List<String>> pending) {
+        Set<String> names = new LinkedHashSet<>();
+        cardIds.forEach(cardId -> names.addAll(pending.get(cardId)));
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> tagRows = new ArrayList<>(names.size());
+        names.forEach(name -> tagRows.add(new Object[]{name, now}));
+        jdbcTemplate.batchUpdate("INSERT IGNORE INTO tag (name, created_at) VALUES (?, ?)", tagRows);
+
+        // DB 콜레이션이 대소문자를 구분하지 않으므로 소문자 키로 매칭
+        Map<String, Long> tagIds = new LinkedHashMap<>();
+        String placeholders = String.join(", ", Collections.nCopies(names.size(), "?"));
+        jdbcTemplate.query("SELECT id, name FROM tag WHERE name IN (" + placeholders + ")", rs -> {
+            tagIds.putIfAbsent(rs.getString("name").toLowerCase(Locale.ROOT), rs.getLong("id"));
+        }, names.toArray());
+
+        List<Object[]> links = new ArrayList<>();
+        for (Long cardId : cardIds) {
+            List<String> cardTags = pending.get(cardId);
+            for (int position = 0; position < cardTags.size(); position++) {
+                Long tagId = tagIds.get(cardTags.get(position).toLowerCase(Locale.ROOT));
+                if (tagId != null) {
+                    links.add(new Object[]{cardId, tagId, position});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO card_tag (card_id, tag_id, position) VALUES (?, ?, ?)", links);
+    }
+}
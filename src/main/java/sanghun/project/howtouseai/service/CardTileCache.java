@@ -0,0 +1,191 @@
+package sanghun.project.howtouseai.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+import sanghun.project.howtouseai.dto.CacheStatsResponse;
+import sanghun.project.howtouseai.dto.CardSummaryResponse;
+import sanghun.project.howtouseai.event.CardDeletedEvent;
+import sanghun.project.howtouseai.event.CardUpdatedEvent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 홈 화면 카드 타일의 렌더링 결과(HTML) 캐시
+ * <p>
+ * 타일 마크업은 모든 사용자에게 같으므로 카드별로 한 번만 렌더링하고, 요청마다 달라지는 좋아요 수만
+ * 자리표시자를 치환해 채웁니다. 타일은 렌더링에 사용한 카드 버전(card.version)과 카테고리 스냅샷 버전을 함께
+ * 저장하고, 목록 조회로 받은 버전과 다르면 다시 렌더링합니다. 다른 노드에서 수정된 카드도 버전으로 감지되므로
+ * 수정/삭제 이벤트의 무효화는 메모리를 비우는 용도입니다.
+ * 목록은 복제본에서 읽을 수 있으므로, 다시 렌더링할 카드는 주 DB 에서 읽어 뒤처진 행이 저장되지 않게 합니다.
+ * 링크에 들어가는 컨텍스트 경로도 함께 저장해, 프록시 등으로 경로가 달라진 요청에는 다시 렌더링합니다.
+ */
+@Slf4j
+@Component
+public class CardTileCache {
+
+    private static final String TEMPLATE = "fragments/card-tile";
+    private static final String LIKES_PLACEHOLDER = "<!--likesCount-->";
+    private static final String NAME = "homeTile";
+
+    private final ITemplateEngine templateEngine;
+    private final CategoryCatalog categoryCatalog;
+    private final int maxEntries;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Long, Tile> tiles;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    // 캐시 미스 타일의 템플릿 렌더링 시간
+    private final Timer renderTimer;
+
+    public CardTileCache(ITemplateEngine templateEngine, CategoryCatalog categoryCatalog, MeterRegistry meterRegistry,
+                         @Value("${home.tile-cache.max-entries:1000}") int maxEntries) {
+        this.templateEngine = templateEngine;
+        this.categoryCatalog = categoryCatalog;
+        this.maxEntries = maxEntries;
+        this.tiles = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Tile> eldest) {
+                boolean evict = size() > CardTileCache.this.maxEntries;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+        this.renderTimer = Timer.builder("howtouseai.home.tiles.render")
+                .description("Card tile template rendering time (cache misses only)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 카드 목록을 조회해 타일 HTML 목록으로 만듭니다.
+     *
+     * @param contextPath   요청의 컨텍스트 경로 (카드 상세 링크 앞에 붙음, 루트면 빈 문자열)
+     * @param cardLoader    표시할 카드 목록 조회 함수 (카드 버전 포함, 복제본에서 읽어도 됨)
+     * @param primaryLoader 다시 렌더링할 카드의 요약을 주 DB 에서 조회하는 함수
+     * @return 카드 순서대로의 타일 HTML (주 DB 에서 이미 삭제된 카드는 제외)
+     */
+    public List<String> render(String contextPath, Supplier<List<CardSummaryResponse>> cardLoader,
+                               Function<Collection<Long>, Map<Long, CardSummaryResponse>> primaryLoader) {
+        // 카드 변환에 쓰인 카테고리보다 오래된 버전으로 저장되지 않도록 목록 조회 전에 읽음
+        long categoryVersion = categoryCatalog.version();
+        List<CardSummaryResponse> cards = cardLoader.get();
+
+        Tile[] found = new Tile[cards.size()];
+        List<Long> missingIds = new ArrayList<>();
+        for (int i = 0; i < cards.size(); i++) {
+            CardSummaryResponse card = cards.get(i);
+            Tile tile = lookup(card.getId());
+            if (tile == null || tile.cardVersion() != card.getVersion() || tile.categoryVersion() != categoryVersion
+                    || !tile.contextPath().equals(contextPath)) {
+                missingIds.add(card.getId());
+            } else {
+                found[i] = tile;
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            Map<Long, CardSummaryResponse> fresh = primaryLoader.apply(missingIds);
+            for (int i = 0; i < cards.size(); i++) {
+                CardSummaryResponse card = found[i] == null ? fresh.get(cards.get(i).getId()) : null;
+                if (card != null) {
+                    String html = renderTimer.record(() -> templateEngine.process(TEMPLATE,
+                            new Context(Locale.ROOT, Map.of("card", card, "contextPath", contextPath))));
+                    found[i] = new Tile(card.getVersion(), categoryVersion, contextPath, html);
+                    store(card.getId(), found[i]);
+                }
+            }
+        }
+
+        List<String> rendered = new ArrayList<>(cards.size());
+        for (int i = 0; i < cards.size(); i++) {
+            if (found[i] != null) {
+                String likesCount = String.valueOf(cards.get(i).getLikesCount());
+                rendered.add(found[i].html().replace(LIKES_PLACEHOLDER, likesCount));
+            }
+        }
+        hits.add(cards.size() - missingIds.size());
+        misses.add(missingIds.size());
+        log.debug("카드 타일 렌더링: count={}, rendered={}", cards.size(), missingIds.size());
+        return rendered;
+    }
+
+    public void invalidate(Long cardId) {
+        lock.lock();
+        try {
+            if (tiles.remove(cardId) != null) {
+                invalidations.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public CacheStatsResponse stats() {
+        lock.lock();
+        try {
+            return CacheStatsResponse.builder()
+                    .name(NAME)
+                    .hits(hits.sum())
+                    .misses(misses.sum())
+                    .loads(misses.sum())
+                    .evictions(evictions.sum())
+                    .invalidations(invalidations.sum())
+                    .entries(tiles.size())
+                    .build();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCardUpdated(CardUpdatedEvent event) {
+        invalidate(event.card().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCardDeleted(CardDeletedEvent event) {
+        invalidate(event.cardId());
+    }
+
+    private Tile lookup(Long cardId) {
+        lock.lock();
+        try {
+            return tiles.get(cardId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void store(Long cardId, Tile tile) {
+        lock.lock();
+        try {
+            tiles.put(cardId, tile);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Tile(long cardVersion, long categoryVersion, String contextPath, String html) {
+    }
+}
@@ -0,0 +1,166 @@
+package sanghun.project.howtouseai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sanghun.project.howtouseai.domain.Category;
+import sanghun.project.howtouseai.domain.CollectionVersion;
+import sanghun.project.howtouseai.dto.CategoryResponse;
+import sanghun.project.howtouseai.event.CategoryChangedEvent;
+import sanghun.project.howtouseai.repository.CategoryRepository;
+import sanghun.project.howtouseai.repository.CollectionVersionRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 전체 카테고리와 응답 DTO 의 불변 스냅샷입니다.
+ * <p>
+ * 카테고리는 관리자 화면에서 드물게 바뀌므로 요청마다 조회하지 않고 스냅샷을 공유합니다.
+ * 카드 변환 시 카테고리 ID 로 같은 DTO 인스턴스를 재사용하므로 카드 목록 쿼리에서 카테고리 JOIN 이 필요 없습니다.
+ * 생성/수정이 커밋되면 새 버전의 스냅샷을 만들어 참조를 원자적으로 교체합니다.
+ * 버전은 내용이 실제로 바뀐 경우에만 올라가므로, 버전을 키로 쓰는 캐시(홈 타일)는 주기적 갱신으로 비워지지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryCatalog {
+
+    private final CategoryRepository categoryRepository;
+    private final CollectionVersionRepository collectionVersionRepository;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    /**
+     * 이름 오름차순의 전체 카테고리 목록 (공유 인스턴스이므로 수정 불가)
+     */
+    public List<CategoryResponse> all() {
+        return current().categories();
+    }
+
+    /**
+     * ID 로 카테고리를 찾습니다. 스냅샷에 없으면 DB 의 카테고리 목록 버전을 확인해,
+     * 스냅샷 이후 변경이 있었을 때만 (다른 노드에서 생성된 경우) 새로 고친 뒤 다시 찾습니다.
+     * 버전이 그대로면 존재하지 않는 ID 이므로 전체 갱신 없이 null 을 반환합니다.
+     *
+     * @param categoryId 카테고리 ID
+     * @return 카테고리 응답 DTO, 없으면 null
+     */
+    public CategoryResponse find(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        Snapshot current = current();
+        CategoryResponse category = current.categoriesById().get(categoryId);
+        if (category == null && sourceVersion() > current.sourceVersion()) {
+            category = refresh(current.version()).categoriesById().get(categoryId);
+        }
+        return category;
+    }
+
+    public long version() {
+        return current().version();
+    }
+
+    /**
+     * DB 의 카테고리 목록 버전(collection_version)보다 오래된 스냅샷이면 새로 고칩니다.
+     * 다른 노드에서 변경된 카테고리를 ETag 와 같은 버전으로 응답하기 위해 사용합니다.
+     */
+    public void ensureFresh(long collectionVersion) {
+        Snapshot current = current();
+        if (current.sourceVersion() < collectionVersion) {
+            refresh(current.version());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh(seenVersion());
+    }
+
+    // 다른 노드에서 발생한 변경을 반영하기 위한 주기적 갱신
+    @Scheduled(initialDelayString = "${categories.refresh-interval-ms:300000}",
+               fixedDelayString = "${categories.refresh-interval-ms:300000}")
+    public void refreshPeriodically() {
+        refresh(seenVersion());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        refresh(seenVersion());
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        return current != null ? current : refresh(0);
+    }
+
+    private long seenVersion() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.version();
+    }
+
+    /**
+     * 스냅샷을 다시 만듭니다. 락을 기다리는 동안 다른 스레드가 이미 새 버전을 만들었다면 그것을 사용합니다.
+     * 내용이 그대로면 버전과 DTO 인스턴스를 유지하고 확인한 목록 버전만 갱신합니다.
+     *
+     * @param seenVersion 호출자가 마지막으로 본 버전
+     */
+    private Snapshot refresh(long seenVersion) {
+        refreshLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current != null && current.version() > seenVersion) {
+                return current;
+            }
+            // 목록 버전을 먼저 읽어 스냅샷 내용이 기록된 버전보다 오래되지 않도록 함
+            long sourceVersion = sourceVersion();
+            List<CategoryResponse> categories = categoryRepository.findAllByOrderByNameAsc().stream()
+                    .map(CategoryCatalog::toResponse)
+                    .toList();
+            if (current != null && current.categories().equals(categories)) {
+                Snapshot unchanged = new Snapshot(current.version(), sourceVersion,
+                        current.categories(), current.categoriesById());
+                snapshot = unchanged;
+                log.debug("카테고리 스냅샷 변경 없음: version={}", unchanged.version());
+                return unchanged;
+            }
+            Map<Long, CategoryResponse> categoriesById = categories.stream()
+                    .collect(Collectors.toUnmodifiableMap(CategoryResponse::getId, Function.identity()));
+            Snapshot refreshed = new Snapshot(current == null ? 1 : current.version() + 1, sourceVersion,
+                    categories, categoriesById);
+            snapshot = refreshed;
+            log.info("카테고리 스냅샷 갱신: version={}, count={}", refreshed.version(), categories.size());
+            return refreshed;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private long sourceVersion() {
+        return collectionVersionRepository.findVersionByName(CollectionVersion.CATEGORIES).orElse(0L);
+    }
+
+    private static CategoryResponse toResponse(Category category) {
+        return CategoryResponse.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .iconUrl(category.getIconUrl())
+                .iconUrl2x(category.getIconUrl2x())
+                .iconPlaceholder(category.getIconPlaceholder())
+                .createdAt(category.getCreatedAt())
+                .build();
+    }
+
+    private record Snapshot(long version, long sourceVersion, List<CategoryResponse> categories,
+                            Map<Long, CategoryResponse> categoriesById) {
+    }
+}
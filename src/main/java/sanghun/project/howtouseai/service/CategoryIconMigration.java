@@ -0,0 +1,94 @@
+package sanghun.project.howtouseai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import sanghun.project.howtouseai.domain.CollectionVersion;
+import sanghun.project.howtouseai.dto.CategoryIconDto;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 예전 방식(/images/categories/ 아래 UUID 파일명)으로 저장된 카테고리 아이콘을 아이콘 저장소로 옮기는 마이그레이션.
+ * 변형이 없는 래스터 아이콘은 이때 1x/2x 변형과 자리표시 이미지를 생성합니다.
+ * 예전 URL 을 가진 카테고리만 대상으로 하므로 반복 실행해도 안전하며,
+ * 카테고리 스냅샷 구성(ApplicationReadyEvent)보다 먼저 수행됩니다. 예전 파일은 기존 URL 호환을 위해 남겨 둡니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryIconMigration implements ApplicationRunner {
+
+    private static final String LEGACY_ICON_URL = "/images/categories/";
+    // 예전 업로드 위치 (개발 환경에서 소스 트리에 직접 기록되던 경로) -> 없으면 classpath 에서 조회
+    private static final String LEGACY_ICON_PATH = "src/main/resources/static/images/categories/";
+    private static final String PENDING_SQL =
+            "SELECT id, icon_url, icon_url_2x, icon_placeholder FROM category WHERE icon_url LIKE ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FileService fileService;
+    private final IconBlobStore iconBlobStore;
+    private final ContentVersionService contentVersionService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int migrated = 0;
+        for (var row : jdbcTemplate.queryForList(PENDING_SQL, LEGACY_ICON_URL + "%")) {
+            Long categoryId = ((Number) row.get("id")).longValue();
+            try {
+                CategoryIconDto icon = migrate((String) row.get("icon_url"),
+                        (String) row.get("icon_url_2x"), (String) row.get("icon_placeholder"));
+                jdbcTemplate.update(
+                        "UPDATE category SET icon_url = ?, icon_url_2x = ?, icon_placeholder = ?, " +
+                        "version = version + 1 WHERE id = ?",
+                        icon.getIconUrl(), icon.getIconUrl2x(), icon.getPlaceholder(), categoryId);
+                migrated++;
+            } catch (IOException | IllegalArgumentException e) {
+                log.warn("카테고리 아이콘 마이그레이션 실패: categoryId={}, reason={}", categoryId, e.getMessage());
+            }
+        }
+        if (migrated > 0) {
+            contentVersionService.bump(CollectionVersion.CATEGORIES);
+            log.info("카테고리 아이콘 마이그레이션 완료: categories={}", migrated);
+        }
+    }
+
+    private CategoryIconDto migrate(String iconUrl, String iconUrl2x, String placeholder) throws IOException {
+        // 변형이 이미 만들어진 아이콘은 파일만 옮김
+        if (iconUrl2x != null) {
+            return new CategoryIconDto(copyToStore(iconUrl), copyToStore(iconUrl2x), placeholder);
+        }
+        try (InputStream in = openLegacy(iconUrl)) {
+            return fileService.storeCategoryIcon(in);
+        }
+    }
+
+    private String copyToStore(String legacyUrl) throws IOException {
+        String extension = legacyUrl.substring(legacyUrl.lastIndexOf('.') + 1);
+        try (InputStream in = openLegacy(legacyUrl)) {
+            return FileService.ICON_URL_PREFIX + iconBlobStore.put(in, extension);
+        }
+    }
+
+    private InputStream openLegacy(String legacyUrl) throws IOException {
+        String filename = legacyUrl.substring(LEGACY_ICON_URL.length());
+        if (filename.contains("/") || filename.contains("..")) {
+            throw new IllegalArgumentException("잘못된 아이콘 경로: " + legacyUrl);
+        }
+        Path path = Paths.get(LEGACY_ICON_PATH).resolve(filename);
+        if (Files.isRegularFile(path)) {
+            return new BufferedInputStream(Files.newInputStream(path));
+        }
+        // 파일이 없으면 ClassPathResource 가 FileNotFoundException 을 던져 해당 카테고리는 건너뜀
+        return new BufferedInputStream(new ClassPathResource("static/images/categories/" + filename).getInputStream());
+    }
+}
@@ -1,58 +1,64 @@
 package sanghun.project.howtouseai.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import sanghun.project.howtouseai.domain.Category;
+import sanghun.project.howtouseai.domain.CollectionVersion;
 import sanghun.project.howtouseai.dto.CategoryCreateRequest;
+import sanghun.project.howtouseai.dto.CategoryIconDto;
 import sanghun.project.howtouseai.dto.CategoryResponse;
 import sanghun.project.howtouseai.dto.CategoryUpdateRequest;
+import sanghun.project.howtouseai.event.CategoryChangedEvent;
 import sanghun.project.howtouseai.exception.CategoryAlreadyExistsException;
 import sanghun.project.howtouseai.exception.CategoryNotFoundException;
 import sanghun.project.howtouseai.repository.CategoryRepository;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@Timed(value = "howtouseai.service", histogram = true)
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final FileService fileService;
+    private final CategoryCatalog categoryCatalog;
+    private final ContentVersionService contentVersionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 모든 카테고리를 이름 오름차순으로 조회합니다.
+     * 모든 카테고리를 이름 오름차순으로 조회합니다. (카테고리 스냅샷 사용, DB 조회 없음)
      *
      * @return 카테고리 응답 DTO 리스트
      */
     public List<CategoryResponse> getAllCategories() {
         log.info("모든 카테고리 조회 요청");
-        List<Category> categories = categoryRepository.findAllByOrderByNameAsc();
-        log.info("카테고리 조회 완료: count={}", categories.size());
-        return categories.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        List<CategoryResponse> categories = categoryCatalog.all();
+        log.info("카테고리 조회 완료: count={}, version={}", categories.size(), categoryCatalog.version());
+        return categories;
     }
 
     public CategoryResponse getCategoryById(Long categoryId) {
         log.info("카테고리 조회 요청: categoryId={}", categoryId);
         
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> {
-                    log.warn("존재하지 않는 카테고리 조회 시도: categoryId={}", categoryId);
-                    return new CategoryNotFoundException(
-                        String.format("카테고리를 찾을 수 없습니다: ID %d", categoryId)
-                    );
-                });
+        CategoryResponse category = categoryCatalog.find(categoryId);
+        if (category == null) {
+            log.warn("존재하지 않는 카테고리 조회 시도: categoryId={}", categoryId);
+            throw new CategoryNotFoundException(
+                String.format("카테고리를 찾을 수 없습니다: ID %d", categoryId)
+            );
+        }
         
         log.info("카테고리 조회 완료: categoryId={}, name={}", categoryId, category.getName());
-        return convertToResponse(category);
+        return category;
     }
 
     @Transactional
@@ -68,18 +74,22 @@ public class CategoryService {
         }
 
         // 이미지 파일 업로드
-        String iconUrl = fileService.uploadCategoryIcon(request.getIconFile());
-        log.info("이미지 업로드 완료: iconUrl={}", iconUrl);
+        CategoryIconDto icon = fileService.uploadCategoryIcon(request.getIconFile());
+        log.info("이미지 업로드 완료: iconUrl={}", icon.getIconUrl());
 
         // 카테고리 엔티티 생성
         Category category = Category.builder()
                 .name(request.getName())
-                .iconUrl(iconUrl)
+                .iconUrl(icon.getIconUrl())
+                .iconUrl2x(icon.getIconUrl2x())
+                .iconPlaceholder(icon.getPlaceholder())
                 .build();
 
         // 저장
         Category savedCategory = categoryRepository.save(category);
         log.info("카테고리 생성 완료: id={}, name={}", savedCategory.getId(), savedCategory.getName());
+        contentVersionService.bump(CollectionVersion.CATEGORIES);
+        eventPublisher.publishEvent(new CategoryChangedEvent(savedCategory.getId()));
 
         // 응답 DTO로 변환
         return convertToResponse(savedCategory);
@@ -100,7 +110,6 @@ public class CategoryService {
                 });
 
         String newName = request.getName();
-        String newIconUrl = null;
 
         // 이름 업데이트 처리
         if (newName != null && !newName.trim().isEmpty()) {
@@ -117,19 +126,21 @@ public class CategoryService {
         }
 
         // 이미지 파일 업데이트 처리
+        // 새 파일이 없으면 기존 아이콘 유지
         if (request.getIconFile() != null && !request.getIconFile().isEmpty()) {
-            newIconUrl = fileService.uploadCategoryIcon(request.getIconFile());
-            log.info("이미지 업로드 완료: iconUrl={}", newIconUrl);
-        } else {
-            newIconUrl = category.getIconUrl(); // 기존 아이콘 URL 유지
+            CategoryIconDto icon = fileService.uploadCategoryIcon(request.getIconFile());
+            log.info("이미지 업로드 완료: iconUrl={}", icon.getIconUrl());
+            category.updateIcon(icon.getIconUrl(), icon.getIconUrl2x(), icon.getPlaceholder());
         }
 
         // 카테고리 정보 업데이트
-        category.updateInfo(newName, newIconUrl);
+        category.updateInfo(newName);
         
         // 저장
         Category updatedCategory = categoryRepository.save(category);
         log.info("카테고리 수정 완료: id={}, name={}", updatedCategory.getId(), updatedCategory.getName());
+        contentVersionService.bump(CollectionVersion.CATEGORIES);
+        eventPublisher.publishEvent(new CategoryChangedEvent(updatedCategory.getId()));
 
         // 응답 DTO로 변환
         return convertToResponse(updatedCategory);
@@ -140,6 +151,8 @@ public class CategoryService {
                 .id(category.getId())
                 .name(category.getName())
                 .iconUrl(category.getIconUrl())
+                .iconUrl2x(category.getIconUrl2x())
+                .iconPlaceholder(category.getIconPlaceholder())
                 .createdAt(category.getCreatedAt())
                 .build();
     }
@@ -0,0 +1,96 @@
+package sanghun.project.howtouseai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+import sanghun.project.howtouseai.domain.CollectionVersion;
+import sanghun.project.howtouseai.dto.CardVersionDto;
+import sanghun.project.howtouseai.repository.CardRepository;
+import sanghun.project.howtouseai.repository.CollectionVersionRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 조건부 GET 용 ETag 를 계산합니다.
+ * <p>
+ * 카드는 (version, likes_version), 목록은 collection_version 행을 PK 로 조회해 만들므로
+ * 엔티티 로딩이나 JSON 직렬화 전에 304 응답 여부를 판단할 수 있습니다.
+ * 카드 응답에는 카테고리 정보가 포함되므로 카드 ETag 에도 카테고리 목록 버전을 넣습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ContentVersionService {
+
+    private final CardRepository cardRepository;
+    private final CollectionVersionRepository collectionVersionRepository;
+    private final UserIdentityService userIdentityService;
+    private final CardLikeMembershipIndex likeMembershipIndex;
+    private final CategoryCatalog categoryCatalog;
+
+    /**
+     * 카드의 (version, likes_version) 을 PK 로 조회합니다.
+     * 상세 응답 본문도 같은 버전의 캐시 값으로 만들 수 있도록 ETag 계산과 따로 제공합니다.
+     */
+    public Optional<CardVersionDto> cardVersion(Long cardId) {
+        return cardRepository.findVersionById(cardId);
+    }
+
+    /**
+     * 카드 상세 응답의 ETag (사용자별 좋아요 여부 포함)
+     *
+     * @param version {@link #cardVersion(Long)} 로 조회한 카드 버전
+     */
+    public String cardEtag(CardVersionDto version, String userUuid) {
+        Long userId = userIdentityService.findId(userUuid).orElse(null);
+        boolean liked = likeMembershipIndex.isLiked(version.getCardId(), userId);
+        return "card-" + version.getCardId() + "-" + version.getVersion() + "-" + version.getLikesVersion()
+                + "-" + categoriesVersion() + (liked ? "-l" : "");
+    }
+
+    /**
+     * 카드 목록 페이지 응답의 ETag (페이지에 포함된 카드들의 버전과 목록 버전으로 계산)
+     */
+    public String cardPageEtag(Pageable pageable) {
+        List<CardVersionDto> versions = cardRepository.findVersions(pageable);
+        StringBuilder source = new StringBuilder()
+                .append(collectionVersion(CollectionVersion.CARDS)).append('|')
+                .append(categoriesVersion()).append('|')
+                .append(pageable.getPageNumber()).append('|').append(pageable.getPageSize());
+        for (CardVersionDto version : versions) {
+            source.append('|').append(version.getCardId())
+                    .append(':').append(version.getVersion())
+                    .append(':').append(version.getLikesVersion());
+        }
+        return "cards-" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String categoriesEtag() {
+        return "categories-" + categoriesVersion();
+    }
+
+    /**
+     * 목록 버전을 증가시킵니다. (생성/삭제 트랜잭션 안에서 호출)
+     */
+    @Transactional
+    public void bump(String collection) {
+        collectionVersionRepository.increment(collection);
+    }
+
+    // 응답에 쓰일 카테고리 스냅샷이 ETag 버전보다 오래되지 않도록 함께 맞춤
+    private long categoriesVersion() {
+        long version = collectionVersion(CollectionVersion.CATEGORIES);
+        categoryCatalog.ensureFresh(version);
+        return version;
+    }
+
+    private long collectionVersion(String collection) {
+        return collectionVersionRepository.findVersionByName(collection).orElse(0L);
+    }
+}
@@ -1,53 +1,93 @@
 package sanghun.project.howtouseai.service;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-
+import sanghun.project.howtouseai.dto.CategoryIconDto;
+
+import javax.imageio.IIOException;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.UUID;
-
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Locale;
+
+/**
+ * 카테고리 아이콘 업로드 처리
+ * <p>
+ * 파일 형식은 확장자가 아니라 내용의 매직 바이트로 판별합니다. PNG/JPEG 는 ImageIO 로 디코딩해
+ * 화면 표시 크기(1x)와 고해상도 화면용(2x) PNG 변형, 인라인용 저해상도 자리표시 이미지를 만들고
+ * 원본은 저장하지 않습니다. SVG 는 크기와 무관하게 선명하므로 그대로 저장합니다.
+ * 결과 파일은 {@link IconBlobStore} 에 내용 해시로 저장되고 /icons/{키} 로 제공됩니다.
+ */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class FileService {
 
-    private static final String CATEGORY_ICON_PATH = "src/main/resources/static/images/categories/";
-    private static final String[] ALLOWED_EXTENSIONS = {".png", ".jpg", ".jpeg", ".svg"};
+    public static final String ICON_URL_PREFIX = "/icons/";
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
 
-    public String uploadCategoryIcon(MultipartFile file) throws IOException {
+    // 홈 화면 아이콘 표시 크기(.category-icon-img)와 맞춤
+    private static final int ICON_SIZE = 32;
+    private static final int PLACEHOLDER_SIZE = 8;
+    // 디코딩 전에 선언된 크기로 거르는 한도 (압축 폭탄 방지)
+    private static final int MAX_IMAGE_DIMENSION = 4096;
+    private static final int SNIFF_LENGTH = 512;
+
+    private static final byte[] PNG_MAGIC = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] JPEG_MAGIC = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+
+    private enum ImageFormat { PNG, JPEG, SVG }
+
+    private final IconBlobStore iconBlobStore;
+
+    public CategoryIconDto uploadCategoryIcon(MultipartFile file) throws IOException {
         log.info("카테고리 아이콘 업로드 시작: filename={}, size={}", 
                 file.getOriginalFilename(), file.getSize());
 
         // 파일 검증
         validateFile(file);
 
-        // 파일 확장자 추출
-        String originalFilename = file.getOriginalFilename();
-        String extension = getFileExtension(originalFilename);
-
-        // 고유한 파일명 생성
-        String uniqueFilename = generateUniqueFilename(extension);
+        // 업로드 본문을 메모리에 모두 올리지 않고 스트림으로 처리
+        try (InputStream in = new BufferedInputStream(file.getInputStream())) {
+            CategoryIconDto icon = storeCategoryIcon(in);
+            log.info("카테고리 아이콘 업로드 완료: iconUrl={}, iconUrl2x={}", icon.getIconUrl(), icon.getIconUrl2x());
+            return icon;
+        }
+    }
 
-        // 파일 저장 경로
-        Path uploadPath = Paths.get(CATEGORY_ICON_PATH);
-        Path filePath = uploadPath.resolve(uniqueFilename);
+    /**
+     * 이미지 스트림에서 아이콘 변형을 만들어 저장합니다. (mark/reset 을 지원하는 스트림이어야 함)
+     */
+    CategoryIconDto storeCategoryIcon(InputStream in) throws IOException {
+        ImageFormat format = detectFormat(in);
 
-        // 디렉토리가 없으면 생성
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
+        if (format == ImageFormat.SVG) {
+            return new CategoryIconDto(ICON_URL_PREFIX + iconBlobStore.put(in, "svg"), null, null);
         }
 
-        // 파일 저장
-        Files.copy(file.getInputStream(), filePath);
-        
-        log.info("카테고리 아이콘 업로드 완료: savedPath={}", filePath);
+        BufferedImage source = decode(in);
+        byte[] icon = encodePng(resize(source, ICON_SIZE));
+        byte[] icon2x = encodePng(resize(source, ICON_SIZE * 2));
+        byte[] placeholder = encodePng(resize(source, PLACEHOLDER_SIZE));
 
-        // 웹 접근 URL 반환
-        return "/images/categories/" + uniqueFilename;
+        return new CategoryIconDto(
+                ICON_URL_PREFIX + iconBlobStore.put(new ByteArrayInputStream(icon), "png"),
+                ICON_URL_PREFIX + iconBlobStore.put(new ByteArrayInputStream(icon2x), "png"),
+                "data:image/png;base64," + Base64.getEncoder().encodeToString(placeholder));
     }
 
     private void validateFile(MultipartFile file) {
@@ -58,35 +98,94 @@ public class FileService {
         if (file.getSize() > MAX_FILE_SIZE) {
             throw new IllegalArgumentException("파일 크기가 5MB를 초과합니다.");
         }
+    }
 
-        String originalFilename = file.getOriginalFilename();
-        if (originalFilename == null || originalFilename.trim().isEmpty()) {
-            throw new IllegalArgumentException("파일명이 올바르지 않습니다.");
+    private ImageFormat detectFormat(InputStream in) throws IOException {
+        in.mark(SNIFF_LENGTH);
+        byte[] head = in.readNBytes(SNIFF_LENGTH);
+        in.reset();
+
+        if (startsWith(head, PNG_MAGIC)) {
+            return ImageFormat.PNG;
+        }
+        if (startsWith(head, JPEG_MAGIC)) {
+            return ImageFormat.JPEG;
+        }
+        // SVG 는 텍스트이므로 XML 선언/주석 뒤에 오는 <svg 루트 요소로 판별
+        String text = new String(head, StandardCharsets.UTF_8).strip().toLowerCase(Locale.ROOT);
+        if ((text.startsWith("<?xml") || text.startsWith("<svg") || text.startsWith("<!--"))
+                && text.contains("<svg")) {
+            return ImageFormat.SVG;
         }
+        throw new IllegalArgumentException("허용되지 않는 파일 형식입니다. (png, jpg, jpeg, svg만 허용)");
+    }
+
+    private static boolean startsWith(byte[] bytes, byte[] prefix) {
+        return bytes.length >= prefix.length
+                && Arrays.equals(bytes, 0, prefix.length, prefix, 0, prefix.length);
+    }
 
-        String extension = getFileExtension(originalFilename);
-        boolean isValidExtension = false;
-        for (String allowedExt : ALLOWED_EXTENSIONS) {
-            if (allowedExt.equalsIgnoreCase(extension)) {
-                isValidExtension = true;
-                break;
+    private BufferedImage decode(InputStream in) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("이미지를 읽을 수 없습니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if (reader.getWidth(0) > MAX_IMAGE_DIMENSION || reader.getHeight(0) > MAX_IMAGE_DIMENSION) {
+                    throw new IllegalArgumentException(
+                            String.format("이미지 크기가 너무 큽니다. (최대 %dx%d)", MAX_IMAGE_DIMENSION, MAX_IMAGE_DIMENSION));
+                }
+                return reader.read(0);
+            } catch (IIOException e) {
+                log.warn("아이콘 이미지 디코딩 실패: {}", e.getMessage());
+                throw new IllegalArgumentException("이미지를 읽을 수 없습니다.");
+            } finally {
+                reader.dispose();
             }
         }
+    }
 
-        if (!isValidExtension) {
-            throw new IllegalArgumentException("허용되지 않는 파일 형식입니다. (png, jpg, jpeg, svg만 허용)");
-        }
+    /**
+     * 비율을 유지한 채 size x size 안에 들어가도록 축소합니다. (확대하지 않음)
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 줄입니다.
+     */
+    private static BufferedImage resize(BufferedImage source, int size) {
+        double scale = Math.min(1.0, (double) size / Math.max(source.getWidth(), source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
     }
 
-    private String getFileExtension(String filename) {
-        int lastDotIndex = filename.lastIndexOf('.');
-        if (lastDotIndex == -1) {
-            throw new IllegalArgumentException("파일 확장자가 없습니다.");
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
         }
-        return filename.substring(lastDotIndex).toLowerCase();
+        return target;
     }
 
-    private String generateUniqueFilename(String extension) {
-        return UUID.randomUUID().toString() + extension;
+    private static byte[] encodePng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, "png", out)) {
+            throw new IOException("PNG 인코더를 찾을 수 없습니다.");
+        }
+        return out.toByteArray();
     }
-} 
\ No newline at end of file
+}
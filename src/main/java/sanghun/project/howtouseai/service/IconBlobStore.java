@@ -0,0 +1,101 @@
+package sanghun.project.howtouseai.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 아이콘 파일을 내용의 SHA-256 으로 식별하는 디스크 저장소 (classpath 외부, icons.storage-dir)
+ * <p>
+ * 키는 "{sha256}.{확장자}" 이며 {root}/{해시 앞 2자리}/{키} 에 저장합니다.
+ * 같은 내용은 한 번만 저장되고, 임시 파일에 기록·fsync 한 뒤 원자적 rename 으로 공개하므로
+ * 읽는 쪽은 쓰다 만 파일을 볼 수 없습니다. 키가 내용에서 나오므로 저장된 파일은 바뀌지 않습니다.
+ */
+@Slf4j
+@Component
+public class IconBlobStore {
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{64}\\.(png|svg)");
+
+    private final Path root;
+
+    public IconBlobStore(@Value("${icons.storage-dir:data/icons}") String storageDir) throws IOException {
+        this.root = Paths.get(storageDir).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+        log.info("아이콘 저장소 경로: {}", root);
+    }
+
+    /**
+     * 스트림 내용을 저장하고 키를 반환합니다. 이미 같은 내용이 있으면 기존 키를 그대로 반환합니다.
+     */
+    public String put(InputStream in, String extension) throws IOException {
+        Path temp = Files.createTempFile(root, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                OutputStream out = new DigestOutputStream(Channels.newOutputStream(channel), digest);
+                in.transferTo(out);
+                out.flush();
+                channel.force(true);
+            }
+
+            String key = HexFormat.of().formatHex(digest.digest()) + "." + extension;
+            Path target = pathOf(key);
+            if (Files.exists(target)) {
+                log.debug("동일한 아이콘이 이미 저장되어 있음: key={}", key);
+                return key;
+            }
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // 같은 내용을 동시에 저장한 경우 - 이미 공개된 파일을 그대로 사용
+            }
+            log.info("아이콘 저장 완료: key={}", key);
+            return key;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 키에 해당하는 파일 경로 (형식이 맞지 않거나 파일이 없으면 empty)
+     */
+    public Optional<Path> find(String key) {
+        if (key == null || !KEY_PATTERN.matcher(key).matches()) {
+            return Optional.empty();
+        }
+        Path path = pathOf(key);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    private Path pathOf(String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package sanghun.project.howtouseai.service;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 메모리 인덱스를 DB 에서 다시 구성하는 동안 이벤트로 들어온 변경을 잃지 않도록 돕습니다.
+ * <p>
+ * 재구성 중에 적용된 변경은 현재 구조에 반영하면서 함께 기록해 두었다가, 새 구조를 교체하기 직전에
+ * 같은 순서로 다시 적용합니다. 조회(스캔)가 이미 읽은 변경이 다시 적용될 수 있으므로 변경은 멱등이어야 합니다.
+ * 변경 적용은 서로 막지 않고(읽기 락), 기록 시작과 교체만 배타적으로(쓰기 락) 수행합니다.
+ *
+ * @param <S> 인덱스 구조 타입
+ */
+final class IndexRebuildReplay<S> {
+
+    private final Supplier<S> current;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 재구성은 한 번에 하나만 (주기 재구성과 일괄 가져오기 후 재구성이 겹치는 경우)
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private Queue<Consumer<S>> recorded;
+
+    IndexRebuildReplay(Supplier<S> current) {
+        this.current = current;
+    }
+
+    /**
+     * 현재 구조에 변경을 적용합니다. 재구성 중이면 새 구조에도 적용되도록 기록합니다.
+     */
+    void apply(Consumer<S> change) {
+        lock.readLock().lock();
+        try {
+            change.accept(current.get());
+            if (recorded != null) {
+                recorded.add(change);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 새 구조를 만들고, 그동안 기록된 변경을 적용한 뒤 교체합니다.
+     *
+     * @param builder 새 구조를 만드는 함수 (DB 조회)
+     * @param publish 새 구조를 현재 구조로 교체하는 함수
+     * @return 교체된 새 구조
+     */
+    S rebuild(Supplier<S> builder, Consumer<S> publish) {
+        rebuildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                recorded = new ConcurrentLinkedQueue<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            S rebuilt = null;
+            try {
+                rebuilt = builder.get();
+                return rebuilt;
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    if (rebuilt != null) {
+                        for (Consumer<S> change : recorded) {
+                            change.accept(rebuilt);
+                        }
+                        publish.accept(rebuilt);
+                    }
+                    recorded = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package sanghun.project.howtouseai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 메모리 인덱스(카테고리 스냅샷, 랭킹, 좋아요 멤버십, 태그, 검색)를 DB 에서 다시 구성합니다.
+ * <p>
+ * 이벤트 없이 JDBC 로 직접 데이터를 넣은 경우(부하 테스트, 벤치마크 시드)에 사용합니다.
+ * 일괄 가져오기는 {@code BulkImportCompletedEvent} 로 각 인덱스가 스스로 재구성합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndexRebuilder {
+
+    private final CategoryCatalog categoryCatalog;
+    private final CardRankingIndex cardRankingIndex;
+    private final CardLikeMembershipIndex cardLikeMembershipIndex;
+    private final CardTagIndex cardTagIndex;
+    private final CardSearchIndex cardSearchIndex;
+
+    public void rebuildAll() {
+        long startedAt = System.nanoTime();
+        // 카드 변환이 카테고리 스냅샷을 참조하므로 먼저 갱신
+        categoryCatalog.load();
+        cardRankingIndex.rebuild();
+        cardLikeMembershipIndex.rebuild();
+        cardTagIndex.rebuild();
+        cardSearchIndex.rebuild();
+        log.info("메모리 인덱스 전체 재구성 완료: elapsedMs={}", (System.nanoTime() - startedAt) / 1_000_000);
+    }
+}
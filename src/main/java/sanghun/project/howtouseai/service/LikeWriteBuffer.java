@@ -0,0 +1,310 @@
+package sanghun.project.howtouseai.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import sanghun.project.howtouseai.dto.LikeResponse;
+import sanghun.project.howtouseai.exception.CardNotFoundException;
+import sanghun.project.howtouseai.repository.CardLikeRepository;
+import sanghun.project.howtouseai.repository.CardRepository;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 좋아요 토글을 메모리에 모았다가 JDBC 배치로 한 번에 반영하는 write-behind 버퍼입니다.
+ * likes.write-behind.enabled=true 일 때만 등록됩니다.
+ * <p>
+ * 같은 (cardId, userId) 에 대한 토글은 하나로 합쳐지며, 토글 후 다시 취소하면 DB 에 아무것도 쓰지 않습니다.
+ * 대기 중인 변경은 배치 크기 또는 주기에 도달하면 반영되고, 정상 종료 시 모두 반영됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "likes.write-behind.enabled", havingValue = "true")
+public class LikeWriteBuffer {
+
+    private static final String INSERT_LIKE_SQL =
+            "INSERT IGNORE INTO card_like (card_id, user_id, created_at) VALUES (?, ?, ?)";
+    private static final String DELETE_LIKE_SQL =
+            "DELETE FROM card_like WHERE card_id = ? AND user_id = ?";
+    private static final String UPDATE_LIKES_COUNT_SQL =
+            "UPDATE card SET likes_count = GREATEST(likes_count + ?, 0), likes_version = likes_version + 1 " +
+            "WHERE id = ?";
+
+    private static final String LOCK_CARDS_SQL = "SELECT id FROM card WHERE id IN (%s) ORDER BY id FOR UPDATE";
+
+    private static final Comparator<LikeKey> KEY_ORDER =
+            Comparator.comparing(LikeKey::cardId).thenComparing(LikeKey::userId);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CardRepository cardRepository;
+    private final CardLikeRepository cardLikeRepository;
+
+    @Value("${likes.write-behind.batch-size:500}")
+    private int batchSize;
+
+    // DB 반영 대기 중인 변경과 카드별 좋아요 수 증감
+    private volatile Map<LikeKey, PendingLike> pending = new ConcurrentHashMap<>();
+    private volatile Map<Long, AtomicLong> pendingDeltas = new ConcurrentHashMap<>();
+
+    // 반영 중인 변경 (커밋 전까지는 응답 오버레이에 포함)
+    private volatile Map<LikeKey, PendingLike> inFlight = Map.of();
+    private volatile Map<Long, AtomicLong> inFlightDeltas = Map.of();
+
+    // 토글(read)과 버퍼 교체/커밋(write)을 구분해, 토글 중에 반영 결과가 두 번 보이거나 빠지지 않게 함
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // 토글 순번 (이벤트의 좋아요 버전). DB 의 likes_version 은 반영 시에만 오르므로 토글 선후를 따로 매김
+    private final AtomicLong toggleSequence = new AtomicLong();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "like-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 좋아요 상태를 버퍼에서 토글하고, 버퍼를 반영한 즉시 상태와 좋아요 수를 반환합니다.
+     *
+     * @param cardId 카드 ID
+     * @param userId 사용자 ID (user_identity.id)
+     * @return 새로운 좋아요 상태와 버퍼 오버레이가 적용된 좋아요 수, 토글 순번
+     * @throws CardNotFoundException 해당 ID의 카드가 존재하지 않을 경우
+     */
+    public Toggled toggle(Long cardId, Long userId) {
+        LikeKey key = new LikeKey(cardId, userId);
+        boolean liked;
+        long likesCount;
+        long likesVersion;
+
+        swapLock.readLock().lock();
+        try {
+            long persistedCount = cardRepository.findLikesCountById(cardId)
+                    .orElseThrow(() -> new CardNotFoundException("Card not found with id: " + cardId));
+            Boolean known = pending.containsKey(key) ? null : persistedState(key);
+
+            // compute 는 버킷 모니터를 잡은 채 실행되므로 그 안에서는 DB 를 조회하지 않음 (가상 스레드 pinning 방지).
+            // 확인 후 다른 토글이 대기 변경을 상쇄해 DB 상태가 필요해지면 밖에서 조회한 뒤 다시 시도
+            AtomicBoolean next = new AtomicBoolean();
+            AtomicBoolean applied = new AtomicBoolean();
+            AtomicLong sequence = new AtomicLong();
+            while (true) {
+                Boolean persistedKnown = known;
+                pending.compute(key, (k, prev) -> {
+                    if (prev == null && persistedKnown == null) {
+                        applied.set(false);
+                        return null;
+                    }
+                    applied.set(true);
+                    boolean persisted = prev != null ? prev.persisted() : persistedKnown;
+                    boolean current = prev != null ? prev.liked() : persisted;
+                    next.set(!current);
+                    pendingDeltas.computeIfAbsent(cardId, id -> new AtomicLong()).addAndGet(current ? -1 : 1);
+                    // 증감 뒤에 순번을 매기므로, 아래에서 읽는 좋아요 수는 이 순번까지의 토글을 모두 포함
+                    sequence.set(toggleSequence.incrementAndGet());
+                    // 원래 상태로 돌아오면 상쇄
+                    return next.get() == persisted ? null : new PendingLike(next.get(), persisted);
+                });
+                if (applied.get()) {
+                    break;
+                }
+                known = persistedState(key);
+            }
+
+            liked = next.get();
+            likesVersion = sequence.get();
+            likesCount = Math.max(0, persistedCount + delta(pendingDeltas, cardId) + delta(inFlightDeltas, cardId));
+        } finally {
+            swapLock.readLock().unlock();
+        }
+
+        if (pending.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                try {
+                    flush();
+                } finally {
+                    flushRequested.set(false);
+                }
+            });
+        }
+
+        LikeResponse response = LikeResponse.builder()
+                .liked(liked)
+                .likesCount(likesCount)
+                .build();
+        return new Toggled(response, likesVersion);
+    }
+
+    @Scheduled(fixedDelayString = "${likes.write-behind.flush-interval-ms:1000}")
+    public void flushPeriodically() {
+        flush();
+    }
+
+    /**
+     * 대기 중인 변경을 하나의 트랜잭션으로 반영합니다.
+     * 실패하면 변경을 버퍼로 되돌려 다음 반영 때 다시 시도합니다.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            swapLock.writeLock().lock();
+            try {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                inFlight = pending;
+                inFlightDeltas = pendingDeltas;
+                pending = new ConcurrentHashMap<>();
+                pendingDeltas = new ConcurrentHashMap<>();
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+
+            boolean committed = false;
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    writeChanges(inFlight);
+                    // 커밋부터 inFlight 해제까지 토글이 끼어들지 않도록 커밋 직전에 잠금
+                    swapLock.writeLock().lock();
+                });
+                committed = true;
+                log.info("좋아요 버퍼 반영 완료: changes={}", inFlight.size());
+            } catch (RuntimeException e) {
+                log.error("좋아요 버퍼 반영 실패, 다음 주기에 재시도: changes={}, error={}",
+                        inFlight.size(), e.getMessage(), e);
+            } finally {
+                if (!swapLock.writeLock().isHeldByCurrentThread()) {
+                    swapLock.writeLock().lock();
+                }
+                try {
+                    if (!committed) {
+                        restoreInFlight();
+                    }
+                    inFlight = Map.of();
+                    inFlightDeltas = Map.of();
+                } finally {
+                    swapLock.writeLock().unlock();
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void drain() throws InterruptedException {
+        flushExecutor.shutdown();
+        flushExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+        if (!pending.isEmpty()) {
+            log.warn("종료 시 반영하지 못한 좋아요 변경: changes={}", pending.size());
+        }
+    }
+
+    private void writeChanges(Map<LikeKey, PendingLike> changes) {
+        List<LikeKey> inserts = new ArrayList<>();
+        List<LikeKey> deletes = new ArrayList<>();
+        changes.forEach((key, change) -> (change.liked() ? inserts : deletes).add(key));
+        // 카드 ID 순으로 정렬해 다른 트랜잭션과의 락 순서를 일정하게 유지
+        inserts.sort(KEY_ORDER);
+        deletes.sort(KEY_ORDER);
+
+        // 직접 토글 경로와 같은 card → card_like 순서로 락을 잡도록 대상 카드 행을 먼저 잠금
+        List<Long> cardIds = changes.keySet().stream().map(LikeKey::cardId).distinct().sorted().toList();
+        for (int from = 0; from < cardIds.size(); from += batchSize) {
+            List<Long> slice = cardIds.subList(from, Math.min(from + batchSize, cardIds.size()));
+            String placeholders = String.join(", ", Collections.nCopies(slice.size(), "?"));
+            jdbcTemplate.queryForList(LOCK_CARDS_SQL.formatted(placeholders), Long.class, slice.toArray());
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] insertCounts = jdbcTemplate.batchUpdate(INSERT_LIKE_SQL, inserts, batchSize, (ps, key) -> {
+            ps.setLong(1, key.cardId());
+            ps.setLong(2, key.userId());
+            ps.setTimestamp(3, now);
+        });
+        int[][] deleteCounts = jdbcTemplate.batchUpdate(DELETE_LIKE_SQL, deletes, batchSize, (ps, key) -> {
+            ps.setLong(1, key.cardId());
+            ps.setLong(2, key.userId());
+        });
+
+        // 실제로 추가/삭제된 행 수 기준으로 카드별 좋아요 수 증감
+        Map<Long, Long> deltas = new TreeMap<>();
+        accumulate(inserts, insertCounts, 1, deltas);
+        accumulate(deletes, deleteCounts, -1, deltas);
+
+        // 증감 합이 0 이어도 좋아요한 사용자가 바뀌었으므로 likes_version 갱신을 위해 UPDATE
+        List<Object[]> updates = new ArrayList<>();
+        deltas.forEach((cardId, delta) -> updates.add(new Object[]{delta, cardId}));
+        jdbcTemplate.batchUpdate(UPDATE_LIKES_COUNT_SQL, updates);
+    }
+
+    private void accumulate(List<LikeKey> keys, int[][] counts, int sign, Map<Long, Long> deltas) {
+        int index = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                LikeKey key = keys.get(index++);
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    deltas.merge(key.cardId(), (long) sign, Long::sum);
+                }
+            }
+        }
+    }
+
+    // 반영 실패한 변경을 대기 버퍼에 다시 합침 (그 사이 들어온 토글이 있으면 그 목표 상태를 유지)
+    private void restoreInFlight() {
+        inFlight.forEach((key, failed) -> pending.merge(key, failed, (newer, older) ->
+                newer.liked() == older.persisted() ? null : new PendingLike(newer.liked(), older.persisted())));
+        inFlightDeltas.forEach((cardId, delta) ->
+                pendingDeltas.computeIfAbsent(cardId, id -> new AtomicLong()).addAndGet(delta.get()));
+    }
+
+    private boolean persistedState(LikeKey key) {
+        PendingLike flushing = inFlight.get(key);
+        if (flushing != null) {
+            return flushing.liked();
+        }
+        return cardLikeRepository.existsByCardIdAndUserId(key.cardId(), key.userId());
+    }
+
+    private long delta(Map<Long, AtomicLong> deltas, Long cardId) {
+        AtomicLong delta = deltas.get(cardId);
+        return delta != null ? delta.get() : 0;
+    }
+
+    /**
+     * 토글 결과와 토글 순번 (같은 카드의 좋아요 이벤트 선후 비교용)
+     */
+    public record Toggled(LikeResponse response, long likesVersion) {
+    }
+
+    private record LikeKey(Long cardId, Long userId) {
+    }
+
+    // liked: 목표 상태, persisted: 버퍼에 들어오기 전 DB 상태
+    private record PendingLike(boolean liked, boolean persisted) {
+    }
+}
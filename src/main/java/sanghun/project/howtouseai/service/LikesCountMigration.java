@@ -0,0 +1,81 @@
+package sanghun.project.howtouseai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import sanghun.project.howtouseai.domain.CollectionVersion;
+import sanghun.project.howtouseai.repository.CollectionVersionRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * card.likes_count 컬럼 도입 이전 데이터를 card_like 실제 개수로 채우는 일회성 마이그레이션.
+ * <p>
+ * 완료 표시(collection_version 의 likes_count_backfill 행)가 없을 때만 실행됩니다.
+ * 카드를 ID 순으로 나눠 잠금 없는 읽기로 어긋난 카드를 찾고, 그 카드만 PK 로 다시 세어 갱신하므로
+ * 카드 테이블 전체에 락을 걸지 않습니다. 인메모리 인덱스 구성(ApplicationReadyEvent)보다 먼저 수행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikesCountMigration implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String MISMATCH_SQL =
+            "SELECT c.id, c.likes_count, COUNT(cl.card_id) AS actual FROM card c " +
+            "LEFT JOIN card_like cl ON cl.card_id = c.id WHERE c.id > ? " +
+            "GROUP BY c.id, c.likes_count ORDER BY c.id LIMIT " + BATCH_SIZE;
+    // 찾은 뒤 토글이 끼어들 수 있으므로 값을 넘기지 않고 행 락을 잡은 상태에서 다시 셈
+    private static final String RECOUNT_SQL =
+            "UPDATE card SET likes_count = (SELECT COUNT(*) FROM card_like cl WHERE cl.card_id = card.id), " +
+            "likes_version = likes_version + 1 WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CollectionVersionRepository collectionVersionRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (collectionVersionRepository.findVersionByName(CollectionVersion.LIKES_COUNT_BACKFILL).isPresent()) {
+            return;
+        }
+        reconcile();
+        transactionTemplate.executeWithoutResult(
+                status -> collectionVersionRepository.increment(CollectionVersion.LIKES_COUNT_BACKFILL));
+    }
+
+    /**
+     * likes_count 가 card_like 실제 개수와 다른 카드를 보정합니다. (JDBC 로 직접 시드한 뒤에도 사용)
+     *
+     * @return 보정한 카드 수
+     */
+    public int reconcile() {
+        long lastId = 0;
+        int updated = 0;
+        while (true) {
+            List<Object[]> mismatched = new ArrayList<>();
+            List<Long> scanned = jdbcTemplate.query(MISMATCH_SQL, (rs, rowNum) -> {
+                long cardId = rs.getLong("id");
+                if (rs.getLong("likes_count") != rs.getLong("actual")) {
+                    mismatched.add(new Object[]{cardId});
+                }
+                return cardId;
+            }, lastId);
+            if (scanned.isEmpty()) {
+                break;
+            }
+            if (!mismatched.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(RECOUNT_SQL, mismatched));
+                updated += mismatched.size();
+            }
+            lastId = scanned.get(scanned.size() - 1);
+        }
+        log.info("좋아요 수 보정 완료: updatedCards={}", updated);
+        return updated;
+    }
+}
@@ -0,0 +1,103 @@
+package sanghun.project.howtouseai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sanghun.project.howtouseai.domain.Card;
+import sanghun.project.howtouseai.domain.CardTag;
+import sanghun.project.howtouseai.domain.Tag;
+import sanghun.project.howtouseai.dto.TagCountResponse;
+import sanghun.project.howtouseai.repository.CardTagRepository;
+import sanghun.project.howtouseai.repository.TagRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TagService {
+
+    private static final int MAX_TAG_LENGTH = 100;
+    private static final int MAX_TOP_TAGS = 100;
+
+    private final TagRepository tagRepository;
+    private final CardTagRepository cardTagRepository;
+    private final CardTagIndex cardTagIndex;
+
+    /**
+     * 쉼표로 구분된 태그 문자열을 정규화된 태그 목록으로 분리합니다.
+     * 앞뒤 공백을 제거하고, 빈 항목과 대소문자만 다른 중복은 제외하며 입력 순서를 유지합니다.
+     *
+     * @param rawTags 쉼표 구분 태그 문자열 (null 가능)
+     * @return 태그 이름 목록
+     */
+    public static List<String> split(String rawTags) {
+        if (rawTags == null || rawTags.isBlank()) {
+            return List.of();
+        }
+        Map<String, String> tags = new LinkedHashMap<>();
+        for (String part : rawTags.split(",")) {
+            String name = part.trim().replaceAll("\\s+", " ");
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (name.length() > MAX_TAG_LENGTH) {
+                name = name.substring(0, MAX_TAG_LENGTH);
+            }
+            tags.putIfAbsent(name.toLowerCase(Locale.ROOT), name);
+        }
+        return List.copyOf(tags.values());
+    }
+
+    /**
+     * 카드의 태그 문자열을 기준으로 card_tag 연결을 다시 만듭니다. (카드 생성/수정 트랜잭션 안에서 호출)
+     *
+     * @param card 저장된 카드 엔티티
+     */
+    @Transactional
+    public void replaceTags(Card card) {
+        cardTagRepository.deleteByCardId(card.getId());
+        List<String> names = split(card.getTags());
+        if (names.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        names.forEach(name -> tagRepository.insertIfAbsent(name, now));
+        // DB 콜레이션이 대소문자를 구분하지 않으므로 소문자 키로 매칭
+        Map<String, Tag> tagsByName = tagRepository.findByNameIn(names).stream()
+                .collect(Collectors.toMap(tag -> tag.getName().toLowerCase(Locale.ROOT), Function.identity(),
+                        (first, second) -> first));
+
+        List<CardTag> cardTags = new ArrayList<>(names.size());
+        for (int position = 0; position < names.size(); position++) {
+            Tag tag = tagsByName.get(names.get(position).toLowerCase(Locale.ROOT));
+            if (tag != null) {
+                cardTags.add(CardTag.builder().card(card).tag(tag).position(position).build());
+            }
+        }
+        cardTagRepository.saveAll(cardTags);
+        log.info("카드 태그 연결 완료: cardId={}, tags={}", card.getId(), names);
+    }
+
+    /**
+     * 카드 수가 많은 순으로 태그를 조회합니다. (메모리 태그 인덱스 사용)
+     *
+     * @param limit 조회할 태그 수 (최대 100)
+     * @return 태그 이름과 카드 수 목록
+     */
+    public List<TagCountResponse> getTopTags(int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_TOP_TAGS));
+        log.info("인기 태그 조회 요청: limit={}", size);
+        return cardTagIndex.topTags(size);
+    }
+}
@@ -0,0 +1,128 @@
+package sanghun.project.howtouseai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * card.uuid, card_like.uuid 문자열 컬럼을 user_identity 참조(owner_id, user_id)로 옮기는 일회성 마이그레이션.
+ * 레거시 uuid 컬럼이 남아 있을 때만 실행되며, 인메모리 인덱스 구성(ApplicationReadyEvent)보다 먼저 수행됩니다.
+ * <p>
+ * 스키마 업데이트가 (card_id, user_id) 유니크 제약을 user_id 가 모두 NULL 일 때 먼저 만들어 두므로,
+ * 같은 (card_id, uuid) 좋아요가 여러 행이면 user_id 를 채우는 UPDATE 가 중복 키로 실패합니다.
+ * 그래서 UPDATE 전에 중복 좋아요를 가장 오래된 행만 남기고 지우고 좋아요 수를 다시 셉니다.
+ * DDL 은 트랜잭션으로 묶이지 않으므로 각 단계는 다시 실행해도 안전하게 만들고, 레거시 컬럼 삭제를 마지막에 두어
+ * 중간에 실패하면 다음 시작 때 처음부터 이어서 수행합니다.
+ */
+@Slf4j
+@Component
+@Order(UserIdentityMigration.ORDER)
+@RequiredArgsConstructor
+public class UserIdentityMigration implements ApplicationRunner {
+
+    // user_id 에 의존하는 마이그레이션(CardLikeUniqueMigration)보다 먼저 실행
+    static final int ORDER = 0;
+
+    private static final String LEGACY_COLUMN = "uuid";
+
+    private static final String DUPLICATE_LIKES_SQL =
+            "SELECT card_id, uuid, MIN(id) AS keep_id FROM card_like GROUP BY card_id, uuid HAVING COUNT(*) > 1";
+    private static final String DELETE_DUPLICATE_LIKES_SQL =
+            "DELETE FROM card_like WHERE card_id = ? AND uuid = ? AND id <> ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LikesCountMigration likesCountMigration;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (hasColumn("card_like", LEGACY_COLUMN)) {
+            int removed = removeDuplicateLikes();
+            // 이전 실행이 중복 삭제 뒤에 멈췄을 수 있으므로 삭제한 행이 없어도 다시 셈
+            likesCountMigration.reconcile();
+            log.info("중복 좋아요 정리 완료: removedRows={}", removed);
+            migrate("card_like", "user_id", "uk_card_like_card_uuid");
+        }
+        if (hasColumn("card", LEGACY_COLUMN)) {
+            migrate("card", "owner_id", null);
+        }
+    }
+
+    /**
+     * 같은 (card_id, uuid) 좋아요를 가장 먼저 기록된 행(MIN(id))만 남기고 삭제합니다.
+     *
+     * @return 삭제한 행 수
+     */
+    private int removeDuplicateLikes() {
+        List<Object[]> duplicates = jdbcTemplate.query(DUPLICATE_LIKES_SQL, (rs, rowNum) -> new Object[]{
+                rs.getLong("card_id"), rs.getString("uuid"), rs.getLong("keep_id")});
+        if (duplicates.isEmpty()) {
+            return 0;
+        }
+        // 드라이버가 배치 결과 행 수를 알려 주지 않으면 음수(SUCCESS_NO_INFO)가 오므로 제외
+        return Arrays.stream(jdbcTemplate.batchUpdate(DELETE_DUPLICATE_LIKES_SQL, duplicates)).filter(n -> n > 0).sum();
+    }
+
+    private void migrate(String table, String idColumn, String legacyIndex) {
+        log.info("사용자 식별자 마이그레이션 시작: table={}", table);
+
+        int identities = jdbcTemplate.update(
+                "INSERT IGNORE INTO user_identity (uuid, created_at) " +
+                "SELECT DISTINCT uuid, NOW() FROM " + table + " WHERE " + idColumn + " IS NULL");
+        int rows = jdbcTemplate.update(
+                "UPDATE " + table + " t SET t." + idColumn + " = " +
+                "(SELECT ui.id FROM user_identity ui WHERE ui.uuid = t.uuid) WHERE t." + idColumn + " IS NULL");
+
+        if (isNullable(table, idColumn)) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " MODIFY " + idColumn + " BIGINT NOT NULL");
+        }
+        if (legacyIndex != null && hasIndex(table, legacyIndex)) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " DROP INDEX " + legacyIndex);
+        }
+        // 마지막 단계: 이 컬럼이 남아 있는 동안은 다음 시작 때 마이그레이션을 다시 시도함
+        jdbcTemplate.execute("ALTER TABLE " + table + " DROP COLUMN " + LEGACY_COLUMN);
+
+        log.info("사용자 식별자 마이그레이션 완료: table={}, newIdentities={}, migratedRows={}", table, identities, rows);
+    }
+
+    private boolean hasColumn(String table, String column) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, table, column)) {
+                return columns.next();
+            }
+        }));
+    }
+
+    private boolean isNullable(String table, String column) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, table, column)) {
+                return columns.next() && "YES".equals(columns.getString("IS_NULLABLE"));
+            }
+        }));
+    }
+
+    private boolean hasIndex(String table, String index) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), null, table, false, false)) {
+                while (indexes.next()) {
+                    if (index.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }));
+    }
+}
@@ -0,0 +1,168 @@
+package sanghun.project.howtouseai.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sanghun.project.howtouseai.domain.UserIdentity;
+import sanghun.project.howtouseai.repository.UserIdentityRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 클라이언트 UUID 와 내부 사용자 ID(user_identity.id) 사이의 변환을 담당합니다.
+ * 매핑은 한 번 만들어지면 바뀌지 않으므로 프로세스 로컬 양방향 캐시를 무효화 없이 사용합니다.
+ * 사용자 수만큼 커지지 않도록 방향별로 최대 항목 수를 두고 가장 오래 안 쓴 항목부터 버립니다. (LRU)
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class UserIdentityService {
+
+    private final UserIdentityRepository userIdentityRepository;
+    private final int maxEntries;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Long> idsByUuid;
+    private final LinkedHashMap<Long, String> uuidsById;
+
+    public UserIdentityService(UserIdentityRepository userIdentityRepository,
+                               @Value("${users.identity-cache.max-entries:100000}") int maxEntries) {
+        this.userIdentityRepository = userIdentityRepository;
+        this.maxEntries = maxEntries;
+        this.idsByUuid = lruMap();
+        this.uuidsById = lruMap();
+    }
+
+    /**
+     * UUID 에 해당하는 사용자 ID 를 조회합니다. (없으면 생성하지 않음)
+     */
+    public Optional<Long> findId(String uuid) {
+        if (uuid == null) {
+            return Optional.empty();
+        }
+        Long cached = cachedId(uuid);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return userIdentityRepository.findByUuid(uuid).map(this::remember);
+    }
+
+    /**
+     * UUID 에 해당하는 사용자 ID 를 조회하고, 없으면 생성합니다.
+     * 여러 노드에서 동시에 생성해도 uuid 유니크 제약과 INSERT IGNORE 로 하나만 만들어집니다.
+     *
+     * @param uuid 클라이언트 UUID
+     * @return 사용자 ID
+     * @throws IllegalArgumentException UUID 가 비어 있는 경우
+     */
+    @Transactional
+    public Long resolveOrCreate(String uuid) {
+        if (uuid == null || uuid.isBlank()) {
+            throw new IllegalArgumentException("사용자 UUID가 필요합니다.");
+        }
+        Long cached = cachedId(uuid);
+        if (cached != null) {
+            return cached;
+        }
+        Optional<UserIdentity> existing = userIdentityRepository.findByUuid(uuid);
+        if (existing.isPresent()) {
+            return remember(existing.get());
+        }
+
+        int inserted = userIdentityRepository.insertIfAbsent(uuid, LocalDateTime.now());
+        UserIdentity identity = userIdentityRepository.findByUuidForUpdate(uuid)
+                .orElseThrow(() -> new IllegalStateException("사용자 식별자 생성에 실패했습니다: " + uuid));
+        log.info("사용자 식별자 {}: id={}", inserted > 0 ? "생성" : "동시 생성 감지", identity.getId());
+        return remember(identity);
+    }
+
+    public String uuidOf(Long id) {
+        if (id == null) {
+            return null;
+        }
+        String cached = cachedUuid(id);
+        if (cached != null) {
+            return cached;
+        }
+        return userIdentityRepository.findById(id)
+                .map(identity -> {
+                    remember(identity);
+                    return identity.getUuid();
+                })
+                .orElse(null);
+    }
+
+    /**
+     * 여러 사용자 ID 의 UUID 를 한 번에 조회합니다. 캐시에 없는 ID 만 한 번의 쿼리로 가져옵니다.
+     */
+    public Map<Long, String> uuidsOf(Collection<Long> ids) {
+        Map<Long, String> uuids = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : ids) {
+            if (id == null) {
+                continue;
+            }
+            String cached = cachedUuid(id);
+            if (cached != null) {
+                uuids.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            for (UserIdentity identity : userIdentityRepository.findByIdIn(misses)) {
+                remember(identity);
+                uuids.put(identity.getId(), identity.getUuid());
+            }
+        }
+        return uuids;
+    }
+
+    private Long cachedId(String uuid) {
+        lock.lock();
+        try {
+            return idsByUuid.get(uuid);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private String cachedUuid(Long id) {
+        lock.lock();
+        try {
+            return uuidsById.get(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Long remember(UserIdentity identity) {
+        lock.lock();
+        try {
+            uuidsById.put(identity.getId(), identity.getUuid());
+            idsByUuid.put(identity.getUuid(), identity.getId());
+        } finally {
+            lock.unlock();
+        }
+        return identity.getId();
+    }
+
+    // accessOrder=true: 조회할 때마다 가장 최근 위치로 이동 (LRU)
+    private <K, V> LinkedHashMap<K, V> lruMap() {
+        return new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+}
@@ -17,48 +17,33 @@ function initializeLikeButtons() {
     likeButtons.forEach((button) => {
         const cardId = button.getAttribute("data-card-id");
         const currentUuid = getUuid(); // 현재 사용자의 UUID
-        const likedUuids = button.getAttribute("data-liked-uuids");
-
-        // 현재 사용자가 이 카드를 좋아요했는지 확인
-        let isLikedByCurrentUser = false;
-        if (likedUuids) {
-            const uuidList = likedUuids.split(",").filter((u) => u.trim() !== "");
-            isLikedByCurrentUser = uuidList.includes(currentUuid);
-            console.log(
-                `Card ${cardId} - Current user UUID: ${currentUuid}, Liked UUIDs: ${uuidList}, Is liked by current user: ${isLikedByCurrentUser}`
-            );
-        }
+        const renderedUuid = button.getAttribute("data-current-uuid");
 
-        // 좋아요 상태 설정
-        if (isLikedByCurrentUser) {
-            button.classList.add("liked");
-            const likeText = button.querySelector(".like-text");
-            const likeIcon = button.querySelector(".like-icon");
-            if (likeText) likeText.textContent = "Liked";
-            if (likeIcon) likeIcon.textContent = "❤️";
-            console.log(`Button set to liked state for card ${cardId}`);
+        // 서버가 같은 UUID 로 렌더링했다면 그 좋아요 여부를 그대로 사용
+        if (renderedUuid === currentUuid) {
+            toggleLikeState(button, button.getAttribute("data-liked-by-user") === "true");
         } else {
-            button.classList.remove("liked");
-            const likeText = button.querySelector(".like-text");
-            const likeIcon = button.querySelector(".like-icon");
-            if (likeText) likeText.textContent = "Like";
-            if (likeIcon) likeIcon.textContent = "🤍";
-            console.log(`Button set to unliked state for card ${cardId}`);
+            // 세션 UUID 로 렌더링된 경우 현재 사용자의 좋아요 여부를 API 로 다시 확인
+            loadLikeState(button, cardId, currentUuid);
         }
 
-        // 디버깅을 위한 로그 추가
-        console.log(`Card ${cardId} like state:`, {
-            buttonClasses: button.className,
-            isLiked: button.classList.contains("liked"),
-            currentUserUuid: currentUuid,
-            likedUuids: likedUuids,
-            isLikedByCurrentUser: isLikedByCurrentUser,
-        });
-
         button.addEventListener("click", handleLikeClickWithUuid);
     });
 }
 
+// 현재 사용자의 좋아요 여부 조회
+async function loadLikeState(button, cardId, uuid) {
+    try {
+        const response = await fetch(`/api/cards/${cardId}?uuid=${encodeURIComponent(uuid)}`);
+        const result = await response.json();
+        if (response.ok && result.success) {
+            toggleLikeState(button, result.data.likedByUser);
+        }
+    } catch (error) {
+        console.error("Like state Error:", error);
+    }
+}
+
 // UUID를 URL에 추가하는 함수 (현재는 사용하지 않음)
 function addUuidToUrl() {
     // URL 변경으로 인한 문제를 방지하기 위해 임시로 비활성화
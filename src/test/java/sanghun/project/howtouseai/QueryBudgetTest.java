@@ -0,0 +1,228 @@
+package sanghun.project.howtouseai;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import sanghun.project.howtouseai.domain.Category;
+import sanghun.project.howtouseai.dto.CardCreateRequest;
+import sanghun.project.howtouseai.dto.CardSortType;
+import sanghun.project.howtouseai.repository.CardRepository;
+import sanghun.project.howtouseai.repository.CategoryRepository;
+import sanghun.project.howtouseai.service.CardDetailCache;
+import sanghun.project.howtouseai.service.CardLikeService;
+import sanghun.project.howtouseai.service.CardService;
+import sanghun.project.howtouseai.service.CardTileCache;
+import sanghun.project.howtouseai.service.CategoryCatalog;
+import sanghun.project.howtouseai.service.CategoryService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 서비스 메서드와 엔드포인트별 SQL 실행 수 예산 (N+1 회귀 방지)
+ * <p>
+ * Hibernate 통계의 prepared statement 수로 측정하며, 예산은 프로세스 캐시(사용자 식별자, 카테고리 스냅샷,
+ * 카드 상세 캐시)가 채워진 정상 상태 기준입니다. 목록 조회의 예산은 페이지 크기와 무관해야 합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budget;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@AutoConfigureMockMvc
+class QueryBudgetTest {
+
+    private static final int CARD_COUNT = 30;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private CardService cardService;
+    @Autowired
+    private CardLikeService cardLikeService;
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private CategoryCatalog categoryCatalog;
+    @Autowired
+    private CardDetailCache cardDetailCache;
+    @Autowired
+    private CardTileCache cardTileCache;
+    @Autowired
+    private CardRepository cardRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private static final List<String> owners = new ArrayList<>();
+    private static final List<Long> cardIds = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        if (!cardIds.isEmpty()) {
+            return;
+        }
+        Category category = categoryRepository.save(Category.builder()
+                .name("query-budget")
+                .iconUrl("/icons/query-budget.png")
+                .build());
+        categoryCatalog.load();
+
+        for (int i = 0; i < 3; i++) {
+            owners.add(UUID.randomUUID().toString());
+        }
+        for (int i = 0; i < CARD_COUNT; i++) {
+            cardIds.add(cardService.createCard(CardCreateRequest.builder()
+                    .title("card " + i)
+                    .categoryId(category.getId())
+                    .tags(i % 2 == 0 ? "java, spring" : "python")
+                    .situation("situation " + i)
+                    .usageExamples("usage " + i)
+                    .content("content " + i)
+                    .uuid(owners.get(i % owners.size()))
+                    .build()).getId());
+        }
+        // 두 번째 사용자가 앞쪽 카드 10개에 좋아요
+        for (int i = 0; i < 10; i++) {
+            cardLikeService.toggleLike(cardIds.get(i), owners.get(1));
+        }
+    }
+
+    @Test
+    void getAllCards_pageAndCountOnly() {
+        assertQueries(2, () -> cardService.getAllCards(PageRequest.of(0, 20, Sort.by("id"))));
+    }
+
+    @Test
+    void getCardsByCursor_singleSliceQuery() {
+        assertQueries(1, () -> cardService.getCardsByCursor(CardSortType.LATEST, null, 20));
+        assertQueries(1, () -> cardService.getCardsByCursor(CardSortType.POPULAR, null, 20));
+    }
+
+    @Test
+    void getCardsForHomePage_singleQueryForRankedCards() {
+        assertQueries(1, () -> cardService.getCardsForHomePage(PageRequest.of(0, 20), owners.get(1)));
+    }
+
+    @Test
+    void getCardsByTag_singleQuery() {
+        assertQueries(1, () -> cardService.getCardsByTag("java", null, 10));
+    }
+
+    @Test
+    void searchCards_singleQuery() {
+        assertQueries(1, () -> cardService.searchCards("card", 0, 20));
+    }
+
+    @Test
+    void getCardById_servedFromCacheAfterOneLoad() {
+        Long cardId = cardIds.get(0);
+        cardDetailCache.invalidate(cardId);
+        // 캐시 값 검증용 버전 조회(PK) + 로딩
+        assertQueries(2, () -> cardService.getCardById(cardId, owners.get(1)));
+        assertQueries(1, () -> cardService.getCardById(cardId, owners.get(1)));
+    }
+
+    @Test
+    void toggleLike_fixedStatementsPerToggle() {
+        Long cardId = cardIds.get(CARD_COUNT - 1);
+        // 좋아요: 카드 행 락, 조건부 DELETE(0건), INSERT IGNORE, 카운터 증가, 좋아요 수 조회
+        assertQueries(5, () -> cardLikeService.toggleLike(cardId, owners.get(0)));
+        // 취소: 카드 행 락, 조건부 DELETE(1건), 카운터 감소, 좋아요 수 조회
+        assertQueries(4, () -> cardLikeService.toggleLike(cardId, owners.get(0)));
+    }
+
+    @Test
+    void getAllCategories_servedFromSnapshot() {
+        assertQueries(0, () -> categoryService.getAllCategories());
+    }
+
+    @Test
+    void cardListEndpoint() throws Exception {
+        // ETag 계산(페이지 버전, 목록 버전, 카테고리 버전) + 페이지 + 개수
+        assertQueries(5, () -> mockMvc.perform(get("/api/cards").param("page", "0").param("size", "20"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void cardDetailEndpoint() throws Exception {
+        String path = "/api/cards/" + cardIds.get(1);
+        MvcResult first = mockMvc.perform(get(path).param("uuid", owners.get(1)))
+                .andExpect(status().isOk())
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        // ETag 계산(카드 버전, 카테고리 버전)만 수행하고 상세는 캐시에서 응답
+        assertQueries(2, () -> mockMvc.perform(get(path).param("uuid", owners.get(1)))
+                .andExpect(status().isOk()));
+        assertQueries(2, () -> mockMvc.perform(get(path).param("uuid", owners.get(1))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified()));
+    }
+
+    @Test
+    void feedEndpoint() throws Exception {
+        assertQueries(1, () -> mockMvc.perform(get("/api/cards/feed").param("sort", "latest").param("size", "20"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void homePage() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("uuid", owners.get(1));
+        cardIds.forEach(cardTileCache::invalidate);
+        // 목록 + 타일을 다시 렌더링할 카드의 주 DB 조회
+        assertQueries(2, () -> mockMvc.perform(get("/").session(session))
+                .andExpect(status().isOk()));
+        // 모든 타일이 캐시에 있으면 목록만 조회
+        assertQueries(1, () -> mockMvc.perform(get("/").session(session))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void likeEndpoint() throws Exception {
+        String path = "/api/cards/" + cardIds.get(CARD_COUNT - 2) + "/like";
+        String body = "{\"uuid\": \"" + owners.get(2) + "\"}";
+        assertQueries(5, () -> mockMvc.perform(post(path).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk()));
+        assertQueries(4, () -> mockMvc.perform(post(path).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk()));
+    }
+
+    private void assertQueries(long expected, ThrowingRunnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        try {
+            action.run();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        assertThat(statistics.getPrepareStatementCount())
+                .as("executed SQL statements")
+                .isEqualTo(expected);
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,226 @@
+package sanghun.project.howtouseai.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import sanghun.project.howtouseai.HowtouseaiApplication;
+import sanghun.project.howtouseai.domain.Card;
+import sanghun.project.howtouseai.domain.Category;
+import sanghun.project.howtouseai.repository.CardRepository;
+import sanghun.project.howtouseai.repository.CategoryRepository;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 느린 DB 조건에서 플랫폼 스레드 모드와 가상 스레드 모드(spring.threads.virtual.enabled)의 처리량과 p99 지연을 비교합니다.
+ * <p>
+ * 모든 조회 쿼리에 DB_DELAY 만큼 지연을 넣고, 커넥션 풀을 Tomcat 스레드 수보다 크게 잡아
+ * 플랫폼 모드에서는 요청 스레드가, 가상 스레드 모드에서는 커넥션 풀이 병목이 되도록 구성합니다.
+ * 일반 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class VirtualThreadBenchmarkTest {
+
+    // 테스트 소스셋에는 Lombok 이 없으므로 직접 생성
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadBenchmarkTest.class);
+
+    private static final Duration DB_DELAY = Duration.ofMillis(20);
+    private static final int PLATFORM_THREADS = 16;
+    private static final int POOL_SIZE = 64;
+    private static final int CLIENTS = 128;
+    private static final int WARMUP_REQUESTS = 500;
+    private static final int REQUESTS = 4000;
+    private static final String PATH = "/api/cards?page=0&size=10";
+
+    @Test
+    void compareThroughputAndTailLatency() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        StringBuilder table = new StringBuilder(String.format("%-10s %12s %10s %10s",
+                "mode", "req/s", "p50(ms)", "p99(ms)"));
+        for (Result result : List.of(platform, virtual)) {
+            table.append(String.format("%n%-10s %12.1f %10.1f %10.1f",
+                    result.mode(), result.throughput(), result.p50Millis(), result.p99Millis()));
+        }
+        log.info("가상 스레드 벤치마크 결과 (DB 지연 {}ms, 클라이언트 {}, 요청 {})\n{}",
+                DB_DELAY.toMillis(), CLIENTS, REQUESTS, table);
+
+        assertThat(platform.failures()).isZero();
+        assertThat(virtual.failures()).isZero();
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(HowtouseaiApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.threads.max=" + PLATFORM_THREADS,
+                        "spring.datasource.url=jdbc:h2:mem:bench-" + mode
+                                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "spring.datasource.hikari.connection-timeout=60000",
+                        "logging.level.sanghun.project.howtouseai=WARN",
+                        "logging.level.sanghun.project.howtouseai.benchmark=INFO")
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(new DelayingDataSourcePostProcessor()))
+                .run();
+        try {
+            seed(context);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + PATH);
+
+            try (HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+                fire(client, uri, WARMUP_REQUESTS);
+                long started = System.nanoTime();
+                Load load = fire(client, uri, REQUESTS);
+                double seconds = (System.nanoTime() - started) / 1e9;
+
+                long[] latencies = load.latenciesNanos();
+                Arrays.sort(latencies);
+                return new Result(mode, REQUESTS / seconds,
+                        percentile(latencies, 0.50), percentile(latencies, 0.99), load.failures());
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    private void seed(ConfigurableApplicationContext context) {
+        CategoryRepository categoryRepository = context.getBean(CategoryRepository.class);
+        CardRepository cardRepository = context.getBean(CardRepository.class);
+        Category category = categoryRepository.save(Category.builder()
+                .name("benchmark")
+                .iconUrl("/icons/benchmark.png")
+                .build());
+        List<Card> cards = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            cards.add(Card.builder()
+                    .title("card " + i)
+                    .category(category)
+                    .tags("java, spring")
+                    .situation("situation " + i)
+                    .usageExamples("usage " + i)
+                    .content("content " + i)
+                    .build());
+        }
+        cardRepository.saveAll(cards);
+    }
+
+    private Load fire(HttpClient client, URI uri, int requests) throws Exception {
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(CLIENTS);
+            for (int c = 0; c < CLIENTS; c++) {
+                futures.add(clients.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                        long started = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                failures.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            failures.incrementAndGet();
+                        }
+                        latencies[i] = System.nanoTime() - started;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return new Load(latencies, failures.get());
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1e6;
+    }
+
+    private record Load(long[] latenciesNanos, int failures) {
+    }
+
+    private record Result(String mode, double throughput, double p50Millis, double p99Millis, int failures) {
+    }
+
+    /**
+     * DataSource 를 감싸 조회 쿼리 실행마다 DB_DELAY 만큼 지연시킵니다. (커넥션을 쥔 채 대기 -> 느린 쿼리 모사)
+     * 시드 데이터 저장 등 쓰기는 지연하지 않습니다.
+     */
+    private static class DelayingDataSourcePostProcessor implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            return proxy(DataSource.class, dataSource, (result, method) ->
+                    result instanceof Connection connection ? proxy(Connection.class, connection, this::wrapStatement)
+                            : result);
+        }
+
+        private Object wrapStatement(Object result, Method method) {
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, statement, (value, invoked) -> value);
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, statement, (value, invoked) -> value);
+            }
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, ResultWrapper wrapper) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                if (method.getName().equals("executeQuery")) {
+                    Thread.sleep(DB_DELAY);
+                }
+                if (method.getName().equals("unwrap") || method.getName().equals("isWrapperFor")) {
+                    return method.invoke(target, args);
+                }
+                try {
+                    return wrapper.wrap(method.invoke(target, args), method);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+
+        @FunctionalInterface
+        private interface ResultWrapper {
+            Object wrap(Object result, Method method);
+        }
+    }
+}
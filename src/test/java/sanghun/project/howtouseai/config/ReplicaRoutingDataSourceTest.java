@@ -0,0 +1,100 @@
+package sanghun.project.howtouseai.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 내장 H2 DB(주 DB / 복제본)로 읽기 전용 트랜잭션 라우팅을 확인합니다.
+ * 각 DB 의 marker 테이블에 자기 이름을 넣어 두고, 어느 DB 에서 읽었는지 비교합니다.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String SELECT_MARKER = "SELECT name FROM marker";
+
+    @AfterEach
+    void unpin() {
+        ReplicaRoutingDataSource.unpin();
+    }
+
+    @Test
+    void readOnlyTransactionReadsFromReplica() {
+        Routing routing = routing(Map.of("replica-1", database("replica-1")));
+
+        assertThat(routing.read(true)).isEqualTo("replica-1");
+        assertThat(routing.read(false)).isEqualTo("primary");
+    }
+
+    @Test
+    void pinnedThreadReadsFromPrimary() {
+        Routing routing = routing(Map.of("replica-1", database("replica-1")));
+
+        ReplicaRoutingDataSource.pinToPrimary();
+
+        assertThat(routing.read(true)).isEqualTo("primary");
+    }
+
+    @Test
+    void roundRobinSpreadsReadsAcrossReplicas() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", database("replica-1"));
+        replicas.put("replica-2", database("replica-2"));
+        Routing routing = routing(replicas);
+
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            seen.add(routing.read(true));
+        }
+
+        assertThat(seen).containsExactlyInAnyOrder("replica-1", "replica-2");
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToPrimary() {
+        DataSource down = new DriverManagerDataSource("jdbc:h2:tcp://127.0.0.1:1/missing");
+        Routing routing = routing(Map.of("replica-1", down));
+
+        assertThat(routing.read(true)).isEqualTo("primary");
+        // 장애로 표시된 동안은 연결을 다시 시도하지 않고 바로 주 DB 로 보냄
+        assertThat(routing.read(true)).isEqualTo("primary");
+    }
+
+    private Routing routing(Map<String, DataSource> replicas) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(database("primary"), replicas,
+                ReplicaRoutingDataSource.Strategy.ROUND_ROBIN, Duration.ofSeconds(10));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        return new Routing(new JdbcTemplate(dataSource), new DataSourceTransactionManager(dataSource));
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS marker");
+        jdbcTemplate.execute("CREATE TABLE marker (name VARCHAR(50))");
+        jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private record Routing(JdbcTemplate jdbcTemplate, DataSourceTransactionManager transactionManager) {
+
+        String read(boolean readOnly) {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(readOnly);
+            return transactionTemplate.execute(status -> jdbcTemplate.queryForObject(SELECT_MARKER, String.class));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package sanghun.project.howtouseai.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import sanghun.project.howtouseai.domain.Category;
+import sanghun.project.howtouseai.dto.CardCreateRequest;
+import sanghun.project.howtouseai.repository.CategoryRepository;
+import sanghun.project.howtouseai.service.CardLikeService;
+import sanghun.project.howtouseai.service.CardService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * /api/cards/export 가 MySQL 이 아닌 DB(H2)에서도 스트리밍 조회로 카드마다 NDJSON 한 줄을 기록하는지 확인합니다.
+ */
+@SpringBootTest(properties =
+        "spring.datasource.url=jdbc:h2:mem:card-export;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class CardExportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private CardService cardService;
+    @Autowired
+    private CardLikeService cardLikeService;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void exportWritesOneLinePerCard() throws Exception {
+        String owner = UUID.randomUUID().toString();
+        Long categoryId = categoryRepository.save(Category.builder()
+                .name("export")
+                .iconUrl("/icons/export.png")
+                .build()).getId();
+        Long firstId = createCard("first", categoryId, owner);
+        Long secondId = createCard("second", categoryId, owner);
+        cardLikeService.toggleLike(secondId, UUID.randomUUID().toString());
+
+        MvcResult started = mockMvc.perform(get("/api/cards/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"cards.ndjson\""))
+                .andReturn();
+
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(body).endsWith("\n");
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).get("id").asLong()).isEqualTo(firstId);
+        assertThat(lines.get(0).get("uuid").asText()).isEqualTo(owner);
+        assertThat(lines.get(0).get("title").asText()).isEqualTo("first");
+        assertThat(lines.get(0).get("categoryId").asLong()).isEqualTo(categoryId);
+        assertThat(lines.get(0).get("tags").asText()).isEqualTo("java, export");
+        assertThat(lines.get(0).get("content").asText()).isEqualTo("content of first");
+        assertThat(lines.get(0).get("likesCount").asLong()).isZero();
+        assertThat(lines.get(1).get("id").asLong()).isEqualTo(secondId);
+        assertThat(lines.get(1).get("likesCount").asLong()).isEqualTo(1);
+    }
+
+    private Long createCard(String title, Long categoryId, String owner) {
+        return cardService.createCard(CardCreateRequest.builder()
+                .title(title)
+                .categoryId(categoryId)
+                .tags("java, export")
+                .situation("situation of " + title)
+                .usageExamples("usage of " + title)
+                .content("content of " + title)
+                .uuid(owner)
+                .build()).getId();
+    }
+}
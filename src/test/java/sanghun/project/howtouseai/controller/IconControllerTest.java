@@ -0,0 +1,181 @@
+package sanghun.project.howtouseai.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import sanghun.project.howtouseai.service.IconBlobStore;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 아이콘 응답의 Range 처리 (닫힌/열린/접미 구간, 416, 여러 구간, If-Range) 와 조건부 GET 을 확인합니다.
+ * 저장소는 목 객체로 대신하고 임시 디렉터리의 100바이트 파일을 돌려줍니다.
+ */
+@WebMvcTest(IconController.class)
+@Import(SimpleMeterRegistry.class)
+class IconControllerTest {
+
+    private static final String HASH = "ab".repeat(32);
+    private static final String KEY = HASH + ".png";
+    private static final String PATH = "/icons/" + KEY;
+    private static final String ETAG = "\"" + HASH + "\"";
+    private static final byte[] BODY = new byte[100];
+
+    static {
+        for (int i = 0; i < BODY.length; i++) {
+            BODY[i] = (byte) i;
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private IconBlobStore iconBlobStore;
+
+    @TempDir
+    Path storageDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = Files.write(storageDir.resolve(KEY), BODY);
+        when(iconBlobStore.find(anyString())).thenReturn(Optional.empty());
+        when(iconBlobStore.find(KEY)).thenReturn(Optional.of(file));
+    }
+
+    @Test
+    void servesWholeFileWithoutRange() throws Exception {
+        mockMvc.perform(get(PATH))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 100))
+                .andExpect(content().bytes(BODY));
+    }
+
+    @Test
+    void closedRange() throws Exception {
+        mockMvc.perform(get(PATH).header(HttpHeaders.RANGE, "bytes=10-19"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-19/100"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 10))
+                .andExpect(content().bytes(slice(10, 20)));
+    }
+
+    @Test
+    void closedRangeEndIsClampedToLength() throws Exception {
+        mockMvc.perform(get(PATH).header(HttpHeaders.RANGE, "bytes=95-500"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 95-99/100"))
+                .andExpect(content().bytes(slice(95, 100)));
+    }
+
+    @Test
+    void openEndedRange() throws Exception {
+        mockMvc.perform(get(PATH).header(HttpHeaders.RANGE, "bytes=90-"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 90-99/100"))
+                .andExpect(content().bytes(slice(90, 100)));
+    }
+
+    @Test
+    void suffixRange() throws Exception {
+        mockMvc.perform(get(PATH).header(HttpHeaders.RANGE, "bytes=-10"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 90-99/100"))
+                .andExpect(content().bytes(slice(90, 100)));
+    }
+
+    @Test
+    void suffixLongerThanFileReturnsWholeFileAsPartial() throws Exception {
+        mockMvc.perform(get(PATH).header(HttpHeaders.RANGE, "bytes=-500"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-99/100"))
+                .andExpect(content().bytes(BODY));
+    }
+
+    @Test
+    void rangeStartingPastEndIsNotSatisfiable() throws Exception {
+        mockMvc.perform(get(PATH).header(HttpHeaders.RANGE, "bytes=100-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */100"));
+    }
+
+    @Test
+    void zeroLengthSuffixIsNotSatisfiable() throws Exception {
+        mockMvc.perform(get(PATH).header(HttpHeaders.RANGE, "bytes=-0"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */100"));
+    }
+
+    @Test
+    void reversedRangeIsNotSatisfiable() throws Exception {
+        mockMvc.perform(get(PATH).header(HttpHeaders.RANGE, "bytes=20-10"))
+                .andExpect(status().isRequestedRangeNotSatisfiable());
+    }
+
+    @Test
+    void multipleRangesFallBackToWholeFile() throws Exception {
+        mockMvc.perform(get(PATH).header(HttpHeaders.RANGE, "bytes=0-1,5-6"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(content().bytes(BODY));
+    }
+
+    @Test
+    void malformedRangeFallsBackToWholeFile() throws Exception {
+        mockMvc.perform(get(PATH).header(HttpHeaders.RANGE, "bytes=abc-def"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(BODY));
+    }
+
+    @Test
+    void ifRangeMatchingEtagHonorsRange() throws Exception {
+        mockMvc.perform(get(PATH).header(HttpHeaders.RANGE, "bytes=0-9").header(HttpHeaders.IF_RANGE, ETAG))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-9/100"))
+                .andExpect(content().bytes(slice(0, 10)));
+    }
+
+    @Test
+    void ifRangeWithOtherValidatorReturnsWholeFile() throws Exception {
+        mockMvc.perform(get(PATH).header(HttpHeaders.RANGE, "bytes=0-9").header(HttpHeaders.IF_RANGE, "\"other\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(content().bytes(BODY));
+    }
+
+    @Test
+    void ifNoneMatchReturnsNotModified() throws Exception {
+        mockMvc.perform(get(PATH).header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void unknownKeyIsNotFound() throws Exception {
+        mockMvc.perform(get("/icons/" + "cd".repeat(32) + ".png"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static byte[] slice(int from, int to) {
+        return Arrays.copyOfRange(BODY, from, to);
+    }
+}
@@ -0,0 +1,58 @@
+package sanghun.project.howtouseai.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import sanghun.project.howtouseai.domain.Category;
+import sanghun.project.howtouseai.dto.CardCreateRequest;
+import sanghun.project.howtouseai.repository.CategoryRepository;
+import sanghun.project.howtouseai.service.CardService;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 캐시된 홈 화면 카드 타일의 상세 링크가 요청의 컨텍스트 경로를 따르는지 확인합니다.
+ */
+@SpringBootTest(properties =
+        "spring.datasource.url=jdbc:h2:mem:main-controller;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class MainControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private CardService cardService;
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    void tileLinksFollowContextPath() throws Exception {
+        Long categoryId = categoryRepository.save(Category.builder()
+                .name("tile")
+                .iconUrl("/icons/tile.png")
+                .build()).getId();
+        Long cardId = cardService.createCard(CardCreateRequest.builder()
+                .title("tile")
+                .categoryId(categoryId)
+                .content("content")
+                .uuid(UUID.randomUUID().toString())
+                .build()).getId();
+
+        String root = mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        // 같은 타일이 캐시된 뒤 다른 컨텍스트 경로로 요청
+        String prefixed = mockMvc.perform(get("/app/").contextPath("/app"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(root).contains("href=\"/card/" + cardId + "\"");
+        assertThat(prefixed).contains("href=\"/app/card/" + cardId + "\"");
+    }
+}
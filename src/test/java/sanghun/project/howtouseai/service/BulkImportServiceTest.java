@@ -0,0 +1,227 @@
+package sanghun.project.howtouseai.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import sanghun.project.howtouseai.domain.Category;
+import sanghun.project.howtouseai.dto.BulkImportResponse;
+import sanghun.project.howtouseai.event.BulkImportCompletedEvent;
+import sanghun.project.howtouseai.repository.CategoryRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 일괄 가져오기의 CSV 파싱 연동, 청크를 넘는 중복 제거, 같은 파일의 카드를 가리키는 좋아요를 확인합니다.
+ * 청크 크기를 2로 줄여 한 파일이 여러 청크 트랜잭션으로 나뉘도록 하고, 결과는 DB 에서 직접 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulk-import;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "bulk-import.chunk-size=2"
+})
+@RecordApplicationEvents
+class BulkImportServiceTest {
+
+    private static final String CSV_HEADER =
+            "type,title,categoryId,tags,situation,usageExamples,content,uuid,cardId,cardUuid\r\n";
+
+    @Autowired
+    private BulkImportService bulkImportService;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private ApplicationEvents events;
+
+    // 테스트끼리 DB 를 공유하므로 작성자 UUID 로 서로의 카드를 구분
+    private String owner;
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        owner = UUID.randomUUID().toString();
+        categoryId = categoryRepository.save(Category.builder()
+                .name("bulk-" + owner.substring(0, 8))
+                .iconUrl("/icons/bulk.png")
+                .build()).getId();
+    }
+
+    @Test
+    void csvKeepsQuotedNewlinesAndEscapedQuotes() throws IOException {
+        String liker = UUID.randomUUID().toString();
+        String csv = CSV_HEADER
+                + "card,\"제목, 쉼표\"," + categoryId + ",\"java, spring\",,,\"첫 줄\r\n둘째 줄 \"\"인용\"\"\","
+                + owner + ",,\r\n"
+                + "\r\n"
+                + "like,\"제목, 쉼표\",,,,,," + liker + ",," + owner + "\r\n";
+
+        BulkImportResponse response = importCsv(csv);
+
+        assertThat(response.getCardsImported()).isEqualTo(1);
+        assertThat(response.getLikesImported()).isEqualTo(1);
+        assertThat(response.getRejected()).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT c.content FROM card c JOIN user_identity u ON u.id = c.owner_id WHERE u.uuid = ?",
+                String.class, owner)).isEqualTo("첫 줄\r\n둘째 줄 \"인용\"");
+        assertThat(likesCount("제목, 쉼표")).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM card_tag ct JOIN card c ON c.id = ct.card_id " +
+                "JOIN user_identity u ON u.id = c.owner_id WHERE u.uuid = ?",
+                Long.class, owner)).isEqualTo(2);
+    }
+
+    @Test
+    void duplicatesAreSkippedAcrossChunksAndReruns() throws IOException {
+        String ndjson = ndjson(
+                card("A"),
+                card("B"),
+                // A, B 가 앞 청크에서 기록된 뒤의 중복
+                card("A"),
+                card(" C "),
+                // 아직 기록되지 않은 같은 청크 안의 중복 (제목 앞뒤 공백은 무시)
+                card("C"));
+
+        BulkImportResponse first = importNdjson(ndjson);
+
+        assertThat(first.getCardsImported()).isEqualTo(3);
+        assertThat(first.getDuplicatesSkipped()).isEqualTo(2);
+        assertThat(ownedTitles()).containsExactlyInAnyOrder("A", "B", "C");
+
+        BulkImportResponse rerun = importNdjson(ndjson);
+
+        assertThat(rerun.getCardsImported()).isZero();
+        assertThat(rerun.getDuplicatesSkipped()).isEqualTo(5);
+        assertThat(ownedTitles()).hasSize(3);
+    }
+
+    @Test
+    void likesCanReferenceCardsFromTheSameFile() throws IOException {
+        String first = UUID.randomUUID().toString();
+        String second = UUID.randomUUID().toString();
+        String ndjson = ndjson(
+                card("X"),
+                // 같은 청크에서 함께 기록되는 카드
+                like("X", first),
+                card("Y"),
+                card("Z"),
+                // 앞 청크에서 기록된 카드
+                like("Y", first),
+                like("X", second),
+                like("Y", first),
+                like("없는 카드", first));
+
+        BulkImportResponse response = importNdjson(ndjson);
+
+        assertThat(response.getCardsImported()).isEqualTo(3);
+        assertThat(response.getLikesImported()).isEqualTo(3);
+        assertThat(response.getDuplicatesSkipped()).isEqualTo(1);
+        assertThat(response.getRejected()).isEqualTo(1);
+        assertThat(likesCount("X")).isEqualTo(2);
+        assertThat(likesCount("Y")).isEqualTo(1);
+        assertThat(likesCount("Z")).isZero();
+    }
+
+    @Test
+    void likeByCardIdRequiresExistingCard() throws IOException {
+        importNdjson(ndjson(card("existing")));
+        Long cardId = jdbcTemplate.queryForObject(
+                "SELECT c.id FROM card c JOIN user_identity u ON u.id = c.owner_id WHERE u.uuid = ?",
+                Long.class, owner);
+
+        BulkImportResponse response = importNdjson(ndjson(
+                Map.of("type", "like", "cardId", cardId, "uuid", UUID.randomUUID().toString()),
+                Map.of("type", "like", "cardId", Long.MAX_VALUE, "uuid", UUID.randomUUID().toString())));
+
+        assertThat(response.getLikesImported()).isEqualTo(1);
+        assertThat(response.getRejected()).isEqualTo(1);
+        assertThat(likesCount("existing")).isEqualTo(1);
+    }
+
+    @Test
+    void committedChunksAreAnnouncedWhenLaterChunkFails() throws IOException {
+        // 첫 청크(A, B)가 커밋된 뒤 세 번째 행을 읽은 다음 입력이 끊김
+        InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+        InputStream in = new SequenceInputStream(
+                new ByteArrayInputStream(ndjson(card("A"), card("B"), card("C")).getBytes(StandardCharsets.UTF_8)),
+                failing);
+
+        assertThatThrownBy(() -> bulkImportService.importRecords(in, BulkImportService.Format.NDJSON))
+                .isInstanceOf(IOException.class);
+
+        assertThat(ownedTitles()).containsExactlyInAnyOrder("A", "B");
+        assertThat(events.stream(BulkImportCompletedEvent.class))
+                .singleElement()
+                .satisfies(event -> assertThat(event.cardsImported()).isEqualTo(2));
+    }
+
+    private BulkImportResponse importCsv(String csv) throws IOException {
+        return bulkImportService.importRecords(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), BulkImportService.Format.CSV);
+    }
+
+    private BulkImportResponse importNdjson(String ndjson) throws IOException {
+        return bulkImportService.importRecords(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), BulkImportService.Format.NDJSON);
+    }
+
+    private Map<String, Object> card(String title) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("title", title);
+        record.put("categoryId", categoryId);
+        record.put("tags", "bulk");
+        record.put("content", "content of " + title.trim());
+        record.put("uuid", owner);
+        return record;
+    }
+
+    private Map<String, Object> like(String title, String userUuid) {
+        return Map.of("type", "like", "title", title, "cardUuid", owner, "uuid", userUuid);
+    }
+
+    @SafeVarargs
+    private String ndjson(Map<String, Object>... records) throws JsonProcessingException {
+        List<String> lines = new ArrayList<>(records.length);
+        for (Map<String, Object> record : records) {
+            lines.add(objectMapper.writeValueAsString(record));
+        }
+        return String.join("\n", lines) + "\n";
+    }
+
+    private List<String> ownedTitles() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.title FROM card c JOIN user_identity u ON u.id = c.owner_id WHERE u.uuid = ?",
+                String.class, owner);
+    }
+
+    private long likesCount(String title) {
+        return jdbcTemplate.queryForObject(
+                "SELECT c.likes_count FROM card c JOIN user_identity u ON u.id = c.owner_id " +
+                "WHERE u.uuid = ? AND c.title = ?",
+                Long.class, owner, title);
+    }
+}
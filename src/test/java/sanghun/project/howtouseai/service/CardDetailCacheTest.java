@@ -0,0 +1,209 @@
+package sanghun.project.howtouseai.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import sanghun.project.howtouseai.dto.CacheStatsResponse;
+import sanghun.project.howtouseai.dto.CardResponse;
+import sanghun.project.howtouseai.dto.CardVersionDto;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카드 상세 캐시의 single-flight 로딩, 로딩 중 무효화, 버전 불일치 재로딩, 용량(바이트) 기준 LRU 제거를 확인합니다.
+ * 로딩 중 무효화는 래치로 로더를 멈춰 둔 상태에서 무효화를 실행해 재현합니다.
+ */
+class CardDetailCacheTest {
+
+    // 본문 100자 카드 하나의 추정 크기: 256 + (40 + 2 * 100)
+    private static final long CARD_WEIGHT = 496;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final AtomicInteger loadCount = new AtomicInteger();
+    // DB 의 현재 카드 내용 버전 (다른 노드에서의 수정을 흉내 내기 위해 변경)
+    private volatile long contentVersion;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        CardDetailCache cache = new CardDetailCache(1_000_000);
+        BlockingLoader loader = new BlockingLoader();
+
+        CompletableFuture<CardResponse> first = getAsync(cache, loader);
+        loader.awaitStarted();
+        CountDownLatch secondStarted = new CountDownLatch(1);
+        AtomicReference<Thread> secondThread = new AtomicReference<>();
+        CompletableFuture<CardResponse> second = CompletableFuture.supplyAsync(() -> {
+            secondThread.set(Thread.currentThread());
+            secondStarted.countDown();
+            return cache.get(1L, current(1L), loader);
+        }, executor);
+        // 두 번째 호출이 진행 중인 로딩에 합류해 멈춘 뒤에 로더를 풀어 줌
+        // (로더가 막혀 있는 동안 두 번째 호출이 멈출 곳은 진행 중인 로딩을 기다리는 join 뿐)
+        assertThat(secondStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        awaitWaiting(secondThread.get());
+        loader.release();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(second.get(5, TimeUnit.SECONDS));
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    void invalidateDuringLoadDiscardsLoadedValue() throws Exception {
+        CardDetailCache cache = new CardDetailCache(1_000_000);
+        BlockingLoader loader = new BlockingLoader();
+
+        CompletableFuture<CardResponse> loading = getAsync(cache, loader);
+        loader.awaitStarted();
+        cache.invalidate(1L);
+        loader.release();
+        loading.get(5, TimeUnit.SECONDS);
+
+        cache.get(1L, current(1L), this::load);
+
+        assertThat(loadCount).hasValue(2);
+        assertThat(cache.stats().getHits()).isZero();
+    }
+
+    @Test
+    void invalidatingAnotherCardDuringLoadKeepsLoadedValue() throws Exception {
+        CardDetailCache cache = new CardDetailCache(1_000_000);
+        BlockingLoader loader = new BlockingLoader();
+
+        CompletableFuture<CardResponse> loading = getAsync(cache, loader);
+        loader.awaitStarted();
+        cache.invalidate(2L);
+        loader.release();
+        CardResponse loaded = loading.get(5, TimeUnit.SECONDS);
+
+        assertThat(cache.get(1L, current(1L), this::load)).isSameAs(loaded);
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    void invalidateAllDuringLoadDiscardsLoadedValue() throws Exception {
+        CardDetailCache cache = new CardDetailCache(1_000_000);
+        BlockingLoader loader = new BlockingLoader();
+
+        CompletableFuture<CardResponse> loading = getAsync(cache, loader);
+        loader.awaitStarted();
+        cache.invalidateAll();
+        loader.release();
+        loading.get(5, TimeUnit.SECONDS);
+
+        assertThat(cache.stats().getEntries()).isZero();
+    }
+
+    @Test
+    void entryWithStaleVersionIsReloaded() {
+        CardDetailCache cache = new CardDetailCache(1_000_000);
+        cache.get(1L, current(1L), this::load);
+
+        // 이벤트 없이 DB 버전만 바뀐 경우 (다른 노드에서 수정)
+        contentVersion++;
+        CardResponse reloaded = cache.get(1L, current(1L), this::load);
+
+        assertThat(reloaded.getVersion()).isEqualTo(contentVersion);
+        assertThat(loadCount).hasValue(2);
+        assertThat(cache.get(1L, current(1L), this::load)).isSameAs(reloaded);
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWhenOverWeight() {
+        CardDetailCache cache = new CardDetailCache(CARD_WEIGHT * 2);
+        cache.get(1L, current(1L), this::load);
+        cache.get(2L, current(2L), this::load);
+        // 1번을 최근에 사용한 것으로 만들어 2번이 가장 오래된 항목이 되게 함
+        cache.get(1L, current(1L), this::load);
+
+        cache.get(3L, current(3L), this::load);
+
+        CacheStatsResponse stats = cache.stats();
+        assertThat(stats.getEntries()).isEqualTo(2);
+        assertThat(stats.getEvictions()).isEqualTo(1);
+        assertThat(stats.getWeightBytes()).isEqualTo(CARD_WEIGHT * 2);
+
+        cache.get(1L, current(1L), this::load);
+        cache.get(2L, current(2L), this::load);
+        assertThat(loadCount).hasValue(4);
+    }
+
+    @Test
+    void valueHeavierThanCapacityIsNotCached() {
+        CardDetailCache cache = new CardDetailCache(CARD_WEIGHT - 1);
+
+        cache.get(1L, current(1L), this::load);
+        cache.get(1L, current(1L), this::load);
+
+        assertThat(loadCount).hasValue(2);
+        assertThat(cache.stats().getWeightBytes()).isZero();
+    }
+
+    private CardResponse load(Long cardId) {
+        loadCount.incrementAndGet();
+        return CardResponse.builder()
+                .id(cardId)
+                .content("x".repeat(100))
+                .likesCount(0L)
+                .version(contentVersion)
+                .likesVersion(0L)
+                .build();
+    }
+
+    private static void awaitWaiting(Thread thread) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING) {
+            assertThat(System.nanoTime() - deadline).as("thread waiting").isNegative();
+            Thread.onSpinWait();
+        }
+    }
+
+    private CompletableFuture<CardResponse> getAsync(CardDetailCache cache, BlockingLoader loader) {
+        return CompletableFuture.supplyAsync(() -> cache.get(1L, current(1L), loader), executor);
+    }
+
+    private CardVersionDto current(Long cardId) {
+        return new CardVersionDto(cardId, contentVersion, 0L);
+    }
+
+    /**
+     * 시작을 알리고 풀어 줄 때까지 멈춰 있는 로더
+     */
+    private final class BlockingLoader implements Function<Long, CardResponse> {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public CardResponse apply(Long cardId) {
+            started.countDown();
+            try {
+                released.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return load(cardId);
+        }
+
+        void awaitStarted() throws InterruptedException {
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
+}
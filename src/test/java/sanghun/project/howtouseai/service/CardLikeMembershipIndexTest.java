@@ -0,0 +1,37 @@
+package sanghun.project.howtouseai.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sanghun.project.howtouseai.event.CardLikeToggledEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 순서 없이 도착하는 좋아요 이벤트 중 같은 사용자의 오래된 이벤트만 무시되는지 확인합니다.
+ */
+class CardLikeMembershipIndexTest {
+
+    private static final long CARD_ID = 1L;
+
+    private final CardLikeMembershipIndex index = new CardLikeMembershipIndex(mock(JdbcTemplate.class));
+
+    @Test
+    void olderEventOfSameUserIsIgnored() {
+        index.onCardLikeToggled(new CardLikeToggledEvent(CARD_ID, 10L, false, 0L, 2L));
+        // 먼저 커밋됐지만 늦게 도착한 좋아요
+        index.onCardLikeToggled(new CardLikeToggledEvent(CARD_ID, 10L, true, 1L, 1L));
+
+        assertThat(index.isLiked(CARD_ID, 10L)).isFalse();
+    }
+
+    @Test
+    void olderEventOfOtherUserIsApplied() {
+        index.onCardLikeToggled(new CardLikeToggledEvent(CARD_ID, 10L, true, 1L, 2L));
+        // 같은 카드의 더 오래된 버전이지만 다른 사용자의 토글
+        index.onCardLikeToggled(new CardLikeToggledEvent(CARD_ID, 11L, true, 2L, 1L));
+
+        assertThat(index.isLiked(CARD_ID, 10L)).isTrue();
+        assertThat(index.isLiked(CARD_ID, 11L)).isTrue();
+    }
+}
@@ -0,0 +1,101 @@
+package sanghun.project.howtouseai.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.core.Ordered;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 스키마 업데이트가 중복 데이터 때문에 (card_id, user_id) 유니크 제약을 건너뛴 상태에서 시작해도
+ * 중복 좋아요가 정리되고 제약이 추가되는지 확인합니다.
+ * 마이그레이션보다 먼저 실행되는 러너가 제약을 지우고 중복 좋아요를 넣어 그 상태를 재현합니다.
+ */
+@SpringBootTest(properties =
+        "spring.datasource.url=jdbc:h2:mem:card-like-unique;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+class CardLikeUniqueMigrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private CardLikeUniqueMigration cardLikeUniqueMigration;
+
+    @Test
+    void duplicateLikesAreRemovedAndConstraintIsAdded() {
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM card_like", Long.class)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT likes_count FROM card WHERE title = 'duplicated'", Long.class)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList("SELECT created_at FROM card_like", Timestamp.class))
+                .allSatisfy(createdAt -> assertThat(createdAt.toLocalDateTime().getYear()).isEqualTo(2020));
+
+        Long cardId = jdbcTemplate.queryForObject("SELECT id FROM card WHERE title = 'duplicated'", Long.class);
+        Long userId = jdbcTemplate.queryForObject("SELECT MIN(user_id) FROM card_like", Long.class);
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO card_like (card_id, user_id, created_at) VALUES (?, ?, ?)",
+                cardId, userId, Timestamp.valueOf(LocalDateTime.now())))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    void rerunWithConstraintIsNoOp() throws Exception {
+        cardLikeUniqueMigration.run(new DefaultApplicationArguments());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM card_like", Long.class)).isEqualTo(2);
+    }
+
+    /**
+     * 다른 러너(마이그레이션)보다 먼저 제약 없는 중복 데이터를 만듭니다.
+     */
+    @TestConfiguration
+    static class DuplicateLikesSeeder implements ApplicationRunner, Ordered {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        DuplicateLikesSeeder(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public void run(ApplicationArguments args) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.update("INSERT INTO category (name, icon_url, created_at, version) VALUES (?, ?, ?, 0)",
+                    "duplicated", "/icons/duplicated.png", now);
+            Long categoryId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM category", Long.class);
+            jdbcTemplate.update("INSERT INTO card (title, category_id, content, created_at, likes_count, " +
+                    "likes_version, version) VALUES ('duplicated', ?, 'content', ?, 5, 0, 0)", categoryId, now);
+            Long cardId = jdbcTemplate.queryForObject("SELECT id FROM card WHERE title = 'duplicated'", Long.class);
+            jdbcTemplate.update("INSERT INTO user_identity (uuid, created_at) VALUES ('user-1', ?), ('user-2', ?)",
+                    now, now);
+
+            jdbcTemplate.execute("ALTER TABLE card_like DROP CONSTRAINT uk_card_like_card_user");
+            // 사용자 1: 3행 (2020, 2021, 2021), 사용자 2: 2행 (2020, 2021)
+            insertLike(cardId, "user-1", 2020);
+            insertLike(cardId, "user-1", 2021);
+            insertLike(cardId, "user-2", 2020);
+            insertLike(cardId, "user-1", 2021);
+            insertLike(cardId, "user-2", 2021);
+        }
+
+        private void insertLike(Long cardId, String uuid, int year) {
+            jdbcTemplate.update("INSERT INTO card_like (card_id, user_id, created_at) " +
+                    "SELECT ?, id, ? FROM user_identity WHERE uuid = ?",
+                    cardId, Timestamp.valueOf(LocalDateTime.of(year, 1, 1, 0, 0)), uuid);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package sanghun.project.howtouseai.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import sanghun.project.howtouseai.dto.CardRankDto;
+import sanghun.project.howtouseai.event.CardLikeToggledEvent;
+import sanghun.project.howtouseai.repository.CardRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 순서 없이 도착하는 좋아요 이벤트 중 이미 반영한 것보다 오래된 이벤트가 순위를 되돌리지 않는지 확인합니다.
+ */
+class CardRankingIndexTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final CardRepository cardRepository = mock(CardRepository.class);
+    private final CardRankingIndex index = new CardRankingIndex(cardRepository);
+
+    @BeforeEach
+    void setUp() {
+        when(cardRepository.findAllRanks()).thenReturn(List.of(
+                new CardRankDto(1L, 3L, CREATED_AT),
+                new CardRankDto(2L, 2L, CREATED_AT)));
+        index.rebuild();
+    }
+
+    @Test
+    void olderLikeEventDoesNotOverwriteNewerOne() {
+        index.onCardLikeToggled(new CardLikeToggledEvent(2L, 10L, true, 5L, 7L));
+        // 먼저 커밋됐지만 늦게 도착한 이벤트
+        index.onCardLikeToggled(new CardLikeToggledEvent(2L, 11L, true, 4L, 6L));
+
+        assertThat(index.topCardIds(0, 2)).containsExactly(2L, 1L);
+
+        // 같은 버전(이미 반영한 토글의 재전달)도 무시
+        index.onCardLikeToggled(new CardLikeToggledEvent(2L, 12L, false, 1L, 7L));
+        assertThat(index.topCardIds(0, 2)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void newerLikeEventIsApplied() {
+        index.onCardLikeToggled(new CardLikeToggledEvent(2L, 10L, true, 5L, 1L));
+        index.onCardLikeToggled(new CardLikeToggledEvent(2L, 10L, false, 1L, 2L));
+
+        assertThat(index.topCardIds(0, 2)).containsExactly(1L, 2L);
+    }
+}
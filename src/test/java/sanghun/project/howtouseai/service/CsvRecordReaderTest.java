@@ -0,0 +1,105 @@
+package sanghun.project.howtouseai.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CSV 행 읽기의 따옴표 처리(쉼표, 줄바꿈, "" 이스케이프)와 줄 끝(CRLF, CR, LF, 파일 끝) 처리를 확인합니다.
+ */
+class CsvRecordReaderTest {
+
+    @Test
+    void splitsPlainFields() throws IOException {
+        assertThat(readAll("a,b,c\n1,2,3\n")).containsExactly(
+                List.of("a", "b", "c"),
+                List.of("1", "2", "3"));
+    }
+
+    @Test
+    void lastRowWithoutLineEndIsRead() throws IOException {
+        assertThat(readAll("a,b\n1,2")).containsExactly(
+                List.of("a", "b"),
+                List.of("1", "2"));
+    }
+
+    @Test
+    void emptyFieldsAreKept() throws IOException {
+        assertThat(readAll(",x,\n")).containsExactly(List.of("", "x", ""));
+    }
+
+    @Test
+    void quotedFieldKeepsCommasAndNewlines() throws IOException {
+        assertThat(readAll("title,content\n\"a, b\",\"line1\nline2\r\nline3\"\nnext,row\n")).containsExactly(
+                List.of("title", "content"),
+                List.of("a, b", "line1\nline2\r\nline3"),
+                List.of("next", "row"));
+    }
+
+    @Test
+    void doubledQuoteIsUnescaped() throws IOException {
+        assertThat(readAll("\"say \"\"hi\"\"\",\"\"\"\"\n")).containsExactly(List.of("say \"hi\"", "\""));
+    }
+
+    @Test
+    void emptyQuotedFieldIsEmptyString() throws IOException {
+        assertThat(readAll("\"\",x\n")).containsExactly(List.of("", "x"));
+    }
+
+    @Test
+    void quoteInsideUnquotedFieldIsLiteral() throws IOException {
+        assertThat(readAll("5\" screen,x\n")).containsExactly(List.of("5\" screen", "x"));
+    }
+
+    @Test
+    void crlfEndsRowOnce() throws IOException {
+        assertThat(readAll("a,b\r\n1,2\r\n")).containsExactly(
+                List.of("a", "b"),
+                List.of("1", "2"));
+    }
+
+    @Test
+    void bareCrEndsRow() throws IOException {
+        assertThat(readAll("a\r1\r")).containsExactly(List.of("a"), List.of("1"));
+    }
+
+    @Test
+    void quotedFieldAtEndOfInput() throws IOException {
+        assertThat(readAll("a,\"b\"")).containsExactly(List.of("a", "b"));
+    }
+
+    @Test
+    void blankLineIsSingleEmptyField() throws IOException {
+        assertThat(readAll("a\n\nb\n")).containsExactly(List.of("a"), List.of(""), List.of("b"));
+    }
+
+    @Test
+    void unclosedQuoteFails() {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a,\"open\nstill open"));
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("따옴표");
+    }
+
+    @Test
+    void emptyInputHasNoRows() throws IOException {
+        assertThat(readAll("")).isEmpty();
+    }
+
+    private static List<List<String>> readAll(String csv) throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(csv));
+        List<List<String>> rows = new ArrayList<>();
+        List<String> row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,60 @@
+package sanghun.project.howtouseai.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 재구성 중에 적용된 변경이 새 구조에 다시 적용된 뒤 교체되는지 확인합니다.
+ */
+class IndexRebuildReplayTest {
+
+    private final AtomicReference<Set<String>> current = new AtomicReference<>(ConcurrentHashMap.newKeySet());
+    private final IndexRebuildReplay<Set<String>> replay = new IndexRebuildReplay<>(current::get);
+
+    @Test
+    void changesDuringRebuildAreReplayedOntoNewStructure() {
+        replay.apply(set -> set.add("before"));
+
+        replay.rebuild(() -> {
+            Set<String> loaded = ConcurrentHashMap.newKeySet();
+            loaded.add("scanned");
+            // 스캔이 끝난 뒤 커밋된 변경
+            replay.apply(set -> set.add("during"));
+            replay.apply(set -> set.remove("scanned"));
+            return loaded;
+        }, current::set);
+
+        assertThat(current.get()).containsExactly("during");
+    }
+
+    @Test
+    void changesAfterRebuildAreNotRecorded() {
+        Set<String> first = ConcurrentHashMap.newKeySet();
+        replay.rebuild(() -> first, current::set);
+        replay.apply(set -> set.add("after"));
+
+        Set<String> second = ConcurrentHashMap.newKeySet();
+        replay.rebuild(() -> second, current::set);
+
+        assertThat(first).containsExactly("after");
+        assertThat(second).isEmpty();
+    }
+
+    @Test
+    void failedRebuildKeepsCurrentStructure() {
+        Set<String> before = current.get();
+
+        assertThatThrownBy(() -> replay.rebuild(() -> {
+            throw new IllegalStateException("db down");
+        }, current::set)).isInstanceOf(IllegalStateException.class);
+        replay.apply(set -> set.add("after"));
+
+        assertThat(current.get()).isSameAs(before).containsExactly("after");
+    }
+}
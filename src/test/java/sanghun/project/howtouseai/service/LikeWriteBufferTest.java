@@ -0,0 +1,215 @@
+package sanghun.project.howtouseai.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sanghun.project.howtouseai.dto.LikeResponse;
+import sanghun.project.howtouseai.exception.CardNotFoundException;
+import sanghun.project.howtouseai.repository.CardLikeRepository;
+import sanghun.project.howtouseai.repository.CardRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * write-behind 버퍼의 토글 상쇄, 반영 중 토글, 반영 실패 복구와 좋아요 수 오버레이 계산을 확인합니다.
+ * DB 는 목 객체로 대신하고, 반영 중 토글은 card_like 배치 실행 시점에 끼워 넣어 재현합니다.
+ */
+class LikeWriteBufferTest {
+
+    private static final long CARD_ID = 1L;
+    private static final long USER_ID = 10L;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final CardRepository cardRepository = mock(CardRepository.class);
+    private final CardLikeRepository cardLikeRepository = mock(CardLikeRepository.class);
+    private final List<List<Long>> insertedUsers = new ArrayList<>();
+    private final List<List<Long>> deletedUsers = new ArrayList<>();
+    private final List<Object[]> countUpdates = new ArrayList<>();
+
+    // card_like 배치 실행 중에 한 번 수행할 동작 (반영 중 토글 재현용)
+    private Runnable duringWrite;
+    private RuntimeException writeFailure;
+
+    private LikeWriteBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new LikeWriteBuffer(jdbcTemplate, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                cardRepository, cardLikeRepository);
+        ReflectionTestUtils.setField(buffer, "batchSize", 500);
+
+        when(cardRepository.findLikesCountById(CARD_ID)).thenReturn(Optional.of(5L));
+        when(cardLikeRepository.existsByCardIdAndUserId(anyLong(), anyLong())).thenReturn(false);
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT"), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class))).thenAnswer(recordKeys(insertedUsers));
+        when(jdbcTemplate.batchUpdate(startsWith("DELETE"), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class))).thenAnswer(recordKeys(deletedUsers));
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE"), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            countUpdates.addAll(rows);
+            return new int[rows.size()];
+        });
+    }
+
+    @Test
+    void likeThenUnlikeCancelsOutWithoutWriting() {
+        LikeResponse liked = buffer.toggle(CARD_ID, USER_ID).response();
+        LikeResponse unliked = buffer.toggle(CARD_ID, USER_ID).response();
+        buffer.flush();
+
+        assertThat(liked.isLiked()).isTrue();
+        assertThat(liked.getLikesCount()).isEqualTo(6);
+        assertThat(unliked.isLiked()).isFalse();
+        assertThat(unliked.getLikesCount()).isEqualTo(5);
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("UPDATE"), anyList());
+    }
+
+    @Test
+    void likesCountOverlaysPendingTogglesOnPersistedCount() {
+        buffer.toggle(CARD_ID, USER_ID);
+        LikeResponse second = buffer.toggle(CARD_ID, USER_ID + 1).response();
+
+        assertThat(second.getLikesCount()).isEqualTo(7);
+    }
+
+    @Test
+    void togglesGetIncreasingVersions() {
+        long first = buffer.toggle(CARD_ID, USER_ID).likesVersion();
+        long second = buffer.toggle(CARD_ID, USER_ID + 1).likesVersion();
+        // 상쇄되어 DB 에 쓸 것이 없어도 토글 순서는 이벤트에 필요
+        long third = buffer.toggle(CARD_ID, USER_ID).likesVersion();
+
+        assertThat(first).isLessThan(second);
+        assertThat(second).isLessThan(third);
+    }
+
+    @Test
+    void likesCountNeverGoesNegative() {
+        when(cardRepository.findLikesCountById(CARD_ID)).thenReturn(Optional.of(0L));
+        when(cardLikeRepository.existsByCardIdAndUserId(CARD_ID, USER_ID)).thenReturn(true);
+
+        LikeResponse unliked = buffer.toggle(CARD_ID, USER_ID).response();
+
+        assertThat(unliked.isLiked()).isFalse();
+        assertThat(unliked.getLikesCount()).isZero();
+    }
+
+    @Test
+    void flushWritesLikeAndCountDelta() {
+        buffer.toggle(CARD_ID, USER_ID);
+        buffer.flush();
+
+        assertThat(insertedUsers).containsExactly(List.of(USER_ID));
+        assertThat(countUpdates).containsExactly(new Object[]{1L, CARD_ID});
+    }
+
+    @Test
+    void toggleDuringFlushSeesInFlightStateAndIsWrittenNextFlush() {
+        buffer.toggle(CARD_ID, USER_ID);
+        List<LikeResponse> duringFlush = new ArrayList<>();
+        duringWrite = () -> duringFlush.add(buffer.toggle(CARD_ID, USER_ID).response());
+
+        buffer.flush();
+
+        // 반영 중인 좋아요를 기준으로 취소되며, DB 값(5)에 반영 중 +1 과 대기 -1 이 함께 더해짐
+        assertThat(duringFlush).singleElement().satisfies(response -> {
+            assertThat(response.isLiked()).isFalse();
+            assertThat(response.getLikesCount()).isEqualTo(5);
+        });
+        // 반영 중인 키의 DB 상태는 다시 조회하지 않음 (첫 토글의 조회 한 번뿐)
+        verify(cardLikeRepository, times(1)).existsByCardIdAndUserId(CARD_ID, USER_ID);
+
+        buffer.flush();
+
+        assertThat(insertedUsers).containsExactly(List.of(USER_ID), List.of());
+        assertThat(deletedUsers).containsExactly(List.of(), List.of(USER_ID));
+    }
+
+    @Test
+    void failedFlushRestoresChangesForRetry() {
+        buffer.toggle(CARD_ID, USER_ID);
+        writeFailure = new QueryTimeoutException("timeout");
+
+        buffer.flush();
+
+        assertThat(countUpdates).isEmpty();
+        assertThat(buffer.toggle(CARD_ID, USER_ID + 1).response().getLikesCount()).isEqualTo(7);
+
+        buffer.flush();
+
+        assertThat(insertedUsers.get(insertedUsers.size() - 1)).containsExactlyInAnyOrder(USER_ID, USER_ID + 1);
+        assertThat(countUpdates).containsExactly(new Object[]{2L, CARD_ID});
+    }
+
+    @Test
+    void failedFlushKeepsNewerToggleThatRevertedIt() {
+        buffer.toggle(CARD_ID, USER_ID);
+        duringWrite = () -> buffer.toggle(CARD_ID, USER_ID);
+        writeFailure = new QueryTimeoutException("timeout");
+
+        buffer.flush();
+        writeFailure = null;
+        buffer.flush();
+
+        // 실패한 좋아요와 그 사이의 취소가 합쳐져 DB 상태와 같아지므로 더 쓸 것이 없음
+        assertThat(countUpdates).isEmpty();
+        assertThat(buffer.toggle(CARD_ID, USER_ID).response().getLikesCount()).isEqualTo(6);
+    }
+
+    @Test
+    void toggleOnMissingCardThrows() {
+        when(cardRepository.findLikesCountById(CARD_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> buffer.toggle(CARD_ID, USER_ID)).isInstanceOf(CardNotFoundException.class);
+    }
+
+    // card_like 배치마다 사용자 ID 를 기록하고 모든 행이 반영된 것으로 응답
+    private Answer<int[][]> recordKeys(List<List<Long>> sink) {
+        return (InvocationOnMock invocation) -> {
+            if (duringWrite != null) {
+                Runnable action = duringWrite;
+                duringWrite = null;
+                action.run();
+            }
+            if (writeFailure != null) {
+                RuntimeException failure = writeFailure;
+                writeFailure = null;
+                throw failure;
+            }
+            Collection<?> keys = invocation.getArgument(1);
+            List<Long> users = new ArrayList<>();
+            for (Object key : keys) {
+                users.add((Long) ReflectionTestUtils.invokeMethod(key, "userId"));
+            }
+            sink.add(users);
+            int[] counts = new int[keys.size()];
+            Arrays.fill(counts, 1);
+            return new int[][]{counts};
+        };
+    }
+}
@@ -0,0 +1,140 @@
+package sanghun.project.howtouseai.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 레거시 card_like.uuid 데이터에 같은 (card_id, uuid) 좋아요가 여러 행 있어도 애플리케이션이 정상 시작되는지 확인합니다.
+ * <p>
+ * 스키마 업데이트 직후 상태(유니크 제약 (card_id, user_id) 는 이미 있고 user_id 는 모두 NULL)를 재현하기 위해,
+ * 마이그레이션보다 먼저 실행되는 러너가 card_like 에 레거시 uuid 컬럼을 추가하고 중복 좋아요를 넣습니다.
+ * 이 테스트 메서드가 실행된다는 것 자체가 시작 중 러너가 실패하지 않았다는 뜻입니다.
+ */
+@SpringBootTest(properties =
+        "spring.datasource.url=jdbc:h2:mem:user-identity-migration;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+class UserIdentityMigrationTest {
+
+    private static final String FIRST_USER = "legacy-user-1";
+    private static final String SECOND_USER = "legacy-user-2";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private UserIdentityMigration userIdentityMigration;
+
+    @Test
+    void duplicateLegacyLikesAreRemovedAtStartup() {
+        assertMigrated();
+    }
+
+    @Test
+    void rerunAfterPartialMigrationCompletes() throws Exception {
+        // user_id 를 채우고 NOT NULL 로 바꾼 뒤 레거시 컬럼을 지우기 전에 멈춘 상태
+        jdbcTemplate.execute("ALTER TABLE card_like ADD COLUMN uuid VARCHAR(255)");
+        jdbcTemplate.update("UPDATE card_like cl SET cl.uuid = " +
+                "(SELECT ui.uuid FROM user_identity ui WHERE ui.id = cl.user_id)");
+
+        userIdentityMigration.run(new DefaultApplicationArguments());
+
+        assertMigrated();
+    }
+
+    private void assertMigrated() {
+        assertThat(hasLegacyColumn()).isFalse();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM card_like WHERE user_id IS NULL", Long.class)).isZero();
+        // 첫 번째 카드: 사용자 1(3행) + 사용자 2(1행), 두 번째 카드: 사용자 1(2행)
+        assertThat(likes("first")).isEqualTo(2);
+        assertThat(likes("second")).isEqualTo(1);
+        assertThat(likesCount("first")).isEqualTo(2);
+        assertThat(likesCount("second")).isEqualTo(1);
+        // 각 (카드, 사용자) 에서 가장 먼저 기록된 행이 남음
+        assertThat(jdbcTemplate.queryForList("SELECT cl.created_at FROM card_like cl " +
+                "JOIN card c ON c.id = cl.card_id WHERE c.title = 'first'", Timestamp.class))
+                .allSatisfy(createdAt -> assertThat(createdAt.toLocalDateTime().getYear()).isEqualTo(2020));
+    }
+
+    private boolean hasLegacyColumn() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, "card_like", "uuid")) {
+                return columns.next();
+            }
+        }));
+    }
+
+    private long likes(String title) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM card_like cl JOIN card c ON c.id = cl.card_id " +
+                "WHERE c.title = ?", Long.class, title);
+    }
+
+    private long likesCount(String title) {
+        return jdbcTemplate.queryForObject("SELECT likes_count FROM card WHERE title = ?", Long.class, title);
+    }
+
+    /**
+     * 다른 러너(마이그레이션)보다 먼저 레거시 데이터를 만듭니다.
+     */
+    @TestConfiguration
+    static class LegacyLikesSeeder implements ApplicationRunner, Ordered {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        LegacyLikesSeeder(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public void run(ApplicationArguments args) {
+            jdbcTemplate.update("INSERT INTO category (name, icon_url, created_at, version) VALUES (?, ?, ?, 0)",
+                    "legacy", "/icons/legacy.png", Timestamp.valueOf(LocalDateTime.now()));
+            Long categoryId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM category", Long.class);
+            long first = insertCard(categoryId, "first");
+            long second = insertCard(categoryId, "second");
+
+            jdbcTemplate.execute("ALTER TABLE card_like ADD COLUMN uuid VARCHAR(255)");
+            // 먼저 기록된 행은 2020년, 중복으로 다시 기록된 행은 2021년
+            insertLike(first, FIRST_USER, 2020);
+            insertLike(first, FIRST_USER, 2021);
+            insertLike(first, SECOND_USER, 2020);
+            insertLike(first, FIRST_USER, 2021);
+            insertLike(second, FIRST_USER, 2020);
+            insertLike(second, FIRST_USER, 2021);
+            // 중복까지 센 레거시 좋아요 수
+            jdbcTemplate.update("UPDATE card SET likes_count = 4 WHERE id = ?", first);
+            jdbcTemplate.update("UPDATE card SET likes_count = 2 WHERE id = ?", second);
+        }
+
+        private long insertCard(Long categoryId, String title) {
+            jdbcTemplate.update("INSERT INTO card (title, category_id, content, created_at, likes_count, " +
+                    "likes_version, version) VALUES (?, ?, ?, ?, 0, 0, 0)",
+                    title, categoryId, "content", Timestamp.valueOf(LocalDateTime.now()));
+            return jdbcTemplate.queryForObject("SELECT id FROM card WHERE title = ?", Long.class, title);
+        }
+
+        private void insertLike(long cardId, String uuid, int year) {
+            jdbcTemplate.update("INSERT INTO card_like (card_id, uuid, created_at) VALUES (?, ?, ?)",
+                    cardId, uuid, Timestamp.valueOf(LocalDateTime.of(year, 1, 1, 0, 0)));
+        }
+    }
+}